@@ -0,0 +1,110 @@
+package com.test.benchmark;
+
+import com.test.framework.fixture.FixtureServer;
+import com.test.framework.pool.ChromeDriverFactory;
+import com.test.framework.wait.AdaptiveWait;
+import com.test.framework.wait.PageConditions;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of each locator strategy used in LocatorExamples against
+ * demo.html in a headless Chrome.
+ *
+ * Throughput mode gives lookups per second; sample-time mode reports latency
+ * percentiles (p50/p90/p99/max). The pageNodes parameter pads the page with
+ * synthetic elements ahead of the demo sections, so strategies that have to
+ * scan the document show how they scale on large DOMs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class LocatorBenchmark {
+
+    // Nested rows of divs, spans and links mixing the class names and text the locators look for
+    private static final String PAD_SCRIPT = String.join("\n",
+            "var count = arguments[0], html = [];",
+            "for (var i = 0; i < count; i += 4) {",
+            "  html.push('<div class=\"pad-row highlight-pad\"><span class=\"pad-text\">Row ' + i",
+            "    + '</span><a href=\"#' + i + '\">Link ' + i + '</a><input name=\"pad' + i + '\"/></div>');",
+            "}",
+            "var container = document.createElement('div');",
+            "container.id = 'synthetic-padding';",
+            "container.innerHTML = html.join('');",
+            "document.body.insertBefore(container, document.body.firstChild);",
+            "return document.getElementsByTagName('*').length;");
+
+    @Param({"ID", "NAME", "CLASS_NAME", "TAG_NAME", "LINK_TEXT", "PARTIAL_LINK_TEXT",
+            "CSS_CLASS", "CSS_DESCENDANT", "CSS_COMPOUND",
+            "XPATH_ATTRIBUTE", "XPATH_EXACT_TEXT", "XPATH_CONTAINS_TEXT", "XPATH_TABLE_CELL"})
+    public LocatorCase locator;
+
+    @Param({"0", "10000", "100000"})
+    public int pageNodes;
+
+    private WebDriver driver;
+    private FixtureServer server;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new", "--window-size=1280,1024", "--disable-extensions");
+        driver = new ChromeDriverFactory(options).create();
+
+        server = FixtureServer.start("");
+        driver.get(server.url("demo.html"));
+        new AdaptiveWait(driver, Duration.ofSeconds(30)).until(PageConditions.documentReady());
+        if (pageNodes > 0) {
+            Object total = ((JavascriptExecutor) driver).executeScript(PAD_SCRIPT, pageNodes);
+            System.out.println("Synthetic page has " + total + " elements");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (driver != null) {
+            driver.quit();
+        }
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    /**
+     * First match, as used by driver.findElement in page objects
+     */
+    @Benchmark
+    public WebElement findElement() {
+        return driver.findElement(locator.by());
+    }
+
+    /**
+     * All matches, which forces a full document scan for every strategy
+     */
+    @Benchmark
+    public List<WebElement> findElements() {
+        return driver.findElements(locator.by());
+    }
+}
@@ -0,0 +1,34 @@
+package com.test.benchmark;
+
+import org.openqa.selenium.By;
+
+/**
+ * The locators used by LocatorExamples, one or more per strategy, so the
+ * benchmark measures exactly what the examples and page objects do
+ */
+public enum LocatorCase {
+
+    ID(By.id("username")),
+    NAME(By.name("fullname")),
+    CLASS_NAME(By.className("highlight")),
+    TAG_NAME(By.tagName("h1")),
+    LINK_TEXT(By.linkText("GeeksForGeeks Tutorial")),
+    PARTIAL_LINK_TEXT(By.partialLinkText("GeeksForGeeks")),
+    CSS_CLASS(By.cssSelector(".css-input")),
+    CSS_DESCENDANT(By.cssSelector(".nested-element .nested-text")),
+    CSS_COMPOUND(By.cssSelector(".highlight.error")),
+    XPATH_ATTRIBUTE(By.xpath("//input[@data-testid='xpath-input']")),
+    XPATH_EXACT_TEXT(By.xpath("//h1[text()='Selenium Locators Demo Page']")),
+    XPATH_CONTAINS_TEXT(By.xpath("//h2[contains(text(),'ID Locator')]")),
+    XPATH_TABLE_CELL(By.xpath("//table[@class='xpath-table']//tr[2]/td[1]"));
+
+    private final By by;
+
+    LocatorCase(By by) {
+        this.by = by;
+    }
+
+    public By by() {
+        return by;
+    }
+}
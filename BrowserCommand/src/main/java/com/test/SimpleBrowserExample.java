@@ -1,75 +1,83 @@
 package com.test;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.test.framework.content.PageSnapshot;
+import com.test.framework.content.PageSourceReader;
+import com.test.framework.driver.DriverBackend;
+import com.test.framework.driver.LaunchProfile;
+import com.test.framework.metrics.PageMetricsStore;
+import com.test.framework.wait.AdaptiveWait;
+import com.test.framework.wait.PageConditions;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
+
+import java.time.Duration;
 
 /**
- * Simple example matching the original BrowserCommands structure
- * Updated for Selenium 4 with WebDriverManager
+ * Simple example matching the original BrowserCommands structure,
+ * updated for Selenium 4 with drivers resolved by the framework
  */
 public class SimpleBrowserExample {
 
-    public static void main(String[] args) throws InterruptedException {
-
-        // WebDriverManager automatically downloads and sets up ChromeDriver
-        WebDriverManager.chromedriver().setup();
-
-        // Create an instance of ChromeDriver (launch the Chrome browser)
-        WebDriver driver = new ChromeDriver();
-
-        // Maximize the browser window
-        driver.manage().window().maximize();
-
-        // Define the URL to visit
-        String URL = "https://www.geeksforgeeks.org/";
-
-        // Waiting for 2 seconds
-        Thread.sleep(2000);
-
-        // Open the specified URL in the browser
-        driver.get(URL);
-        System.out.println("Visited GeeksForGeeks");
-
-        // Waiting for 2 seconds
-        Thread.sleep(2000);
-
-        // Getting the Title of the URL
-        String pageTitle = driver.getTitle();
-        System.out.println("Page Title: " + pageTitle);
-
-        // Waiting for 2 seconds
-        Thread.sleep(2000);
-
-        // Getting the Page Source
-        String pageSource = driver.getPageSource();
-        System.out.println("Page Source Length: " + pageSource.length() + " characters");
-        System.out.println("Page Source Preview (first 200 chars): "
-                + pageSource.substring(0, Math.min(200, pageSource.length())) + "...");
-
-        // Waiting for 2 seconds
-        Thread.sleep(2000);
-
-        // Getting current URL before clicking
-        String currentURL = driver.getCurrentUrl();
-        System.out.println("Current URL: " + currentURL);
-
-        // Waiting for 2 seconds
-        Thread.sleep(2000);
-
-        // Getting the current URL after the click
-        currentURL = driver.getCurrentUrl();
-        System.out.println("Current URL after click: " + currentURL);
-
-        // Waiting for 2 seconds
-        Thread.sleep(2000);
-
-        // Close the current tab
-        driver.close();
-        System.out.println("Browser tab closed");
-
-        // Close all the tabs or windows of the browser
-        driver.quit();
-        System.out.println("All browser windows closed");
+    public static void main(String[] args) {
+
+        // Backend from -Ddriver.backend (chrome or jvm) and launch profile from -Dbrowser.profile (default or fast)
+        DriverBackend backend = DriverBackend.fromSystemProperties();
+        LaunchProfile profile = LaunchProfile.fromSystemProperties();
+
+        // Create the WebDriver instance (launches the Chrome browser unless the JVM backend is selected)
+        WebDriver driver = backend.launch(profile, profile.chromeOptions());
+
+        try {
+            // Waits only as long as the page actually needs instead of fixed sleeps
+            AdaptiveWait wait = new AdaptiveWait(driver, Duration.ofSeconds(30));
+
+            // Maximize the browser window
+            driver.manage().window().maximize();
+
+            // Define the URL to visit
+            String URL = "https://www.geeksforgeeks.org/";
+
+            // Open the specified URL in the browser
+            driver.get(URL);
+            System.out.println("Visited GeeksForGeeks");
+
+            // Waiting until the page has loaded and network and DOM have settled; pages with rotating
+            // ads may never go quiet, so settle for a loaded document then
+            try {
+                wait.until(PageConditions.pageSettled(Duration.ofMillis(500)));
+            } catch (TimeoutException e) {
+                System.out.println("Page never settled, continuing once the document is ready");
+                wait.until(PageConditions.documentReady());
+            }
+
+            // Getting the Title of the URL
+            String pageTitle = driver.getTitle();
+            System.out.println("Page Title: " + pageTitle);
+
+            // Getting the Page Source, streamed in chunks so a multi-MB page is never held as one String
+            PageSnapshot pageSource = new PageSourceReader(driver).prefixLength(200).read();
+            System.out.println("Page Source Length: " + pageSource.getLength() + " characters");
+            System.out.println("Page Source SHA-256: " + pageSource.getSha256());
+            System.out.println("Page Source Preview (first 200 chars): " + pageSource.getPrefix() + "...");
+
+            // Getting current URL before clicking
+            String currentURL = driver.getCurrentUrl();
+            System.out.println("Current URL: " + currentURL);
+
+            // Getting the current URL after the click
+            currentURL = driver.getCurrentUrl();
+            System.out.println("Current URL after click: " + currentURL);
+
+            // Close the current tab
+            driver.close();
+            System.out.println("Browser tab closed");
+        } finally {
+            // Close all the tabs or windows of the browser, even if a step above failed
+            driver.quit();
+            System.out.println("All browser windows closed");
+        }
+
+        // Page performance collected after the navigation (-Dpage.metrics=true), compared with earlier runs
+        PageMetricsStore.printSummary();
     }
 }
\ No newline at end of file
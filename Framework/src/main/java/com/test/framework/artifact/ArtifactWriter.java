@@ -0,0 +1,244 @@
+package com.test.framework.artifact;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes diagnostic artifacts on a background thread so a failing test only
+ * pays for collecting them, not for compressing and writing them.
+ *
+ * Memory is bounded: queued artifacts may hold at most
+ * -Dartifacts.maxQueuedMb (default 64) MB. When the writer falls behind,
+ * {@link #submit} blocks for up to -Dartifacts.offerTimeoutMs (default 2000)
+ * and then drops the artifact. Single artifacts are capped at
+ * -Dartifacts.maxFileMb (default 10, text is truncated, binary dropped) and a
+ * run at -Dartifacts.maxTotalMb (default 500). Text is gzip compressed.
+ *
+ * {@link #shared()} writes to a per-run directory under -Dartifacts.dir
+ * (default target/artifacts).
+ */
+public class ArtifactWriter implements AutoCloseable {
+
+    private static final long MB = 1024 * 1024;
+    private static final Artifact POISON = new Artifact("", new byte[0], false, 0);
+    private static ArtifactWriter shared;
+
+    private final Path directory;
+    private final long maxFileBytes;
+    private final long maxTotalBytes;
+    private final long offerTimeoutMillis;
+    private final int queuedKbLimit;
+    private final Semaphore queuedKb;
+    private final LinkedBlockingQueue<Artifact> queue = new LinkedBlockingQueue<>();
+    private final Thread worker;
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong writtenBytes = new AtomicLong();
+    private volatile boolean closed;
+
+    public ArtifactWriter(Path directory, long maxQueuedBytes, long maxFileBytes, long maxTotalBytes,
+            long offerTimeoutMillis) {
+        this.directory = directory;
+        this.maxFileBytes = maxFileBytes;
+        this.maxTotalBytes = maxTotalBytes;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.queuedKbLimit = (int) Math.max(1, maxQueuedBytes / 1024);
+        this.queuedKb = new Semaphore(queuedKbLimit);
+        this.worker = new Thread(this::drain, "artifact-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Writer for this run, created on first use and flushed when the JVM exits
+     */
+    public static synchronized ArtifactWriter shared() {
+        if (shared == null) {
+            String run = "run-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))
+                    + "-" + ProcessHandle.current().pid();
+            ArtifactWriter writer = new ArtifactWriter(
+                    Paths.get(System.getProperty("artifacts.dir", "target/artifacts"), run),
+                    Long.getLong("artifacts.maxQueuedMb", 64) * MB,
+                    Long.getLong("artifacts.maxFileMb", 10) * MB,
+                    Long.getLong("artifacts.maxTotalMb", 500) * MB,
+                    Long.getLong("artifacts.offerTimeoutMs", 2000));
+            Runtime.getRuntime().addShutdownHook(new Thread(writer::close, "artifact-writer-shutdown"));
+            shared = writer;
+        }
+        return shared;
+    }
+
+    /**
+     * Queues an artifact for writing as {@code fileName} (plus ".gz" when
+     * compressed).
+     *
+     * @return false if the artifact was dropped because of a size cap or
+     *         because the queue stayed full for the offer timeout
+     */
+    public boolean submit(String fileName, byte[] content, boolean compress) {
+        if (closed) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        if (content.length > maxFileBytes) {
+            if (!compress) {
+                dropped.incrementAndGet();
+                return false;
+            }
+            content = Arrays.copyOf(content, (int) maxFileBytes);
+        }
+        // An artifact bigger than the whole budget waits for an empty queue instead of forever
+        int kb = (int) Math.min(queuedKbLimit, Math.max(1, (content.length + 1023L) / 1024));
+        try {
+            if (!queuedKb.tryAcquire(kb, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.incrementAndGet();
+            return false;
+        }
+        queue.add(new Artifact(fileName, content, compress, kb));
+        return true;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getWrittenBytes() {
+        return writtenBytes.get();
+    }
+
+    /**
+     * Waits up to 30 s until everything queued so far is written; the writer
+     * stays open
+     */
+    public void flush() {
+        // Every queued artifact holds permits until it is written, all of them are free once drained
+        try {
+            if (queuedKb.tryAcquire(queuedKbLimit, 30, TimeUnit.SECONDS)) {
+                queuedKb.release(queuedKbLimit);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stops accepting artifacts and waits up to 30 s for the queue to drain
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        queue.add(POISON);
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return written.get() + " artifacts written (" + writtenBytes.get() / 1024 + " KB), "
+                + dropped.get() + " dropped, in " + directory;
+    }
+
+    private void drain() {
+        while (true) {
+            Artifact artifact;
+            try {
+                artifact = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (artifact == POISON) {
+                return;
+            }
+            try {
+                write(artifact);
+            } catch (IOException e) {
+                dropped.incrementAndGet();
+                System.out.println("✗ Could not write artifact " + artifact.fileName + ": " + e.getMessage());
+            } finally {
+                queuedKb.release(artifact.kb);
+            }
+        }
+    }
+
+    private void write(Artifact artifact) throws IOException {
+        if (writtenBytes.get() + artifact.content.length > maxTotalBytes) {
+            dropped.incrementAndGet();
+            return;
+        }
+        Files.createDirectories(directory);
+        Path file = uniquePath(artifact.compress ? artifact.fileName + ".gz" : artifact.fileName);
+        if (artifact.compress) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                 OutputStream out = new GZIPOutputStream(Channels.newOutputStream(channel), 64 * 1024)) {
+                out.write(artifact.content);
+            }
+        } else {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(artifact.content);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        }
+        writtenBytes.addAndGet(Files.size(file));
+        written.incrementAndGet();
+    }
+
+    private Path uniquePath(String name) {
+        // Retried tests capture under the same name, keep every attempt
+        Path file = directory.resolve(name);
+        for (int attempt = 2; Files.exists(file); attempt++) {
+            file = directory.resolve(attempt + "-" + name);
+        }
+        return file;
+    }
+
+    private static final class Artifact {
+
+        private final String fileName;
+        private final byte[] content;
+        private final boolean compress;
+        private final int kb;
+
+        Artifact(String fileName, byte[] content, boolean compress, int kb) {
+            this.fileName = fileName;
+            this.content = content;
+            this.compress = compress;
+            this.kb = kb;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.test.framework.artifact;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Collects a screenshot, the page source, the browser console log and the
+ * error of a failure and hands them to an {@link ArtifactWriter}.
+ *
+ * Only the reads from the browser happen on the calling thread; each one is
+ * optional, so a dead session or a driver without screenshots or logs still
+ * yields whatever is available.
+ */
+public final class FailureCapture {
+
+    private FailureCapture() {
+    }
+
+    /**
+     * Captures under file names starting with {@code name}
+     *
+     * @return number of artifacts queued
+     */
+    public static int capture(WebDriver driver, String name, Throwable error, ArtifactWriter writer) {
+        String base = name.replaceAll("[^A-Za-z0-9._-]", "_");
+        int queued = 0;
+        if (error != null && writer.submit(base + ".error.txt", stackTrace(error), true)) {
+            queued++;
+        }
+        if (driver == null) {
+            return queued;
+        }
+
+        if (driver instanceof TakesScreenshot) {
+            try {
+                byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+                if (writer.submit(base + ".png", png, false)) {
+                    queued++;
+                }
+            } catch (WebDriverException | UnsupportedOperationException e) {
+                // No screenshot from this session
+            }
+        }
+        try {
+            String url = driver.getCurrentUrl();
+            String source = "<!-- " + url + " -->\n" + driver.getPageSource();
+            if (writer.submit(base + ".html", source.getBytes(StandardCharsets.UTF_8), true)) {
+                queued++;
+            }
+        } catch (WebDriverException e) {
+            // Session gone
+        }
+        try {
+            StringBuilder console = new StringBuilder();
+            for (LogEntry entry : driver.manage().logs().get(LogType.BROWSER)) {
+                console.append(entry).append('\n');
+            }
+            if (console.length() > 0
+                    && writer.submit(base + ".console.log", console.toString().getBytes(StandardCharsets.UTF_8), true)) {
+                queued++;
+            }
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            // Driver doesn't expose console logs
+        }
+        return queued;
+    }
+
+    private static byte[] stackTrace(Throwable error) {
+        StringWriter text = new StringWriter();
+        error.printStackTrace(new PrintWriter(text));
+        return text.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
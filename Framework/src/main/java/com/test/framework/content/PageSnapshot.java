@@ -0,0 +1,98 @@
+package com.test.framework.content;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Summary of a page's source computed while streaming it: length, SHA-256,
+ * a prefix and which of the requested substrings occur. Holds no more of the
+ * page than the prefix; the full text is only kept if it was spilled to a
+ * file.
+ */
+public final class PageSnapshot {
+
+    private final String url;
+    private final long length;
+    private final long utf8Length;
+    private final String sha256;
+    private final String prefix;
+    private final Map<String, Boolean> found;
+    private final Path spillFile;
+    private final int chunks;
+
+    PageSnapshot(String url, long length, long utf8Length, String sha256, String prefix,
+            Map<String, Boolean> found, Path spillFile, int chunks) {
+        this.url = url;
+        this.length = length;
+        this.utf8Length = utf8Length;
+        this.sha256 = sha256;
+        this.prefix = prefix;
+        this.found = found;
+        this.spillFile = spillFile;
+        this.chunks = chunks;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Length in characters, as {@code getPageSource().length()} would report
+     */
+    public long getLength() {
+        return length;
+    }
+
+    public long getUtf8Length() {
+        return utf8Length;
+    }
+
+    /**
+     * Hex SHA-256 of the UTF-8 encoded source
+     */
+    public String getSha256() {
+        return sha256;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Whether the source contains a substring registered with
+     * {@link PageSourceReader#find}
+     *
+     * @throws IllegalArgumentException for a substring that wasn't registered
+     */
+    public boolean contains(String text) {
+        Boolean result = found.get(text);
+        if (result == null) {
+            throw new IllegalArgumentException("Not searched for: " + text);
+        }
+        return result;
+    }
+
+    /**
+     * File holding the full source, or null if it wasn't spilled
+     */
+    public Path getSpillFile() {
+        return spillFile;
+    }
+
+    public int getChunkCount() {
+        return chunks;
+    }
+
+    /**
+     * True if this content differs from the previous snapshot's (or there is
+     * no previous snapshot)
+     */
+    public boolean hasChanged(PageSnapshot previous) {
+        return previous == null || length != previous.length || !sha256.equals(previous.sha256);
+    }
+
+    @Override
+    public String toString() {
+        return url + " (" + length + " chars, sha256 " + sha256.substring(0, 12) + ")";
+    }
+}
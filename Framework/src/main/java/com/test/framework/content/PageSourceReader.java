@@ -0,0 +1,221 @@
+package com.test.framework.content;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the page source in fixed-size chunks instead of one
+ * {@code getPageSource()} String.
+ *
+ * The page serializes its DOM once and the chunks are fetched one script call
+ * at a time; each chunk is hashed, searched and optionally written to a file,
+ * then dropped. Memory use is bounded by the chunk size whatever the page
+ * size, and a page that fits in one chunk costs the same single round trip as
+ * getPageSource.
+ */
+public class PageSourceReader {
+
+    private static final int DEFAULT_CHUNK_SIZE = 256 * 1024;
+
+    // Serializes once, keeps the text in the page under a unique key and returns the first chunk
+    private static final String START_SCRIPT = String.join("\n",
+            "var text = document.documentElement ? document.documentElement.outerHTML : '';",
+            "var end = cut(text, 0, arguments[0]);",
+            "function cut(t, start, size) {",
+            "  var e = Math.min(t.length, start + size);",
+            // Never split a surrogate pair between two chunks
+            "  if (e < t.length && e > start + 1 && (t.charCodeAt(e - 1) & 0xFC00) === 0xD800) e--;",
+            "  return e;",
+            "}",
+            "var key = null;",
+            "if (end < text.length) {",
+            "  key = '__pageSource' + Math.random().toString(36).slice(2);",
+            "  window[key] = text;",
+            "}",
+            "return [key, text.length, text.substring(0, end)];");
+
+    private static final String CHUNK_SCRIPT = String.join("\n",
+            "var t = window[arguments[0]], start = arguments[1];",
+            "if (t === undefined) return null;",
+            "var e = Math.min(t.length, start + arguments[2]);",
+            "if (e < t.length && e > start + 1 && (t.charCodeAt(e - 1) & 0xFC00) === 0xD800) e--;",
+            "return t.substring(start, e);");
+
+    private static final String END_SCRIPT = "delete window[arguments[0]];";
+
+    private final WebDriver driver;
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private int prefixLength = 200;
+    private Path spillFile;
+    private final List<String> searches = new ArrayList<>();
+
+    public PageSourceReader(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Characters fetched per script call (default 256K)
+     */
+    public PageSourceReader chunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1, was " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public PageSourceReader prefixLength(int prefixLength) {
+        this.prefixLength = prefixLength;
+        return this;
+    }
+
+    /**
+     * Also writes the full source to this file (UTF-8)
+     */
+    public PageSourceReader spillTo(Path file) {
+        this.spillFile = file;
+        return this;
+    }
+
+    /**
+     * Also writes the full source to a new temp file, which the caller deletes
+     */
+    public PageSourceReader spillToTempFile() {
+        try {
+            return spillTo(Files.createTempFile("page-source", ".html"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Records whether the source contains {@code text}, see
+     * {@link PageSnapshot#contains}
+     */
+    public PageSourceReader find(String text) {
+        searches.add(text);
+        return this;
+    }
+
+    public PageSnapshot read() {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        String url = driver.getCurrentUrl();
+        List<?> start = (List<?>) js.executeScript(START_SCRIPT, chunkSize);
+        // Strings come back as CharSequence from some drivers (e.g. HtmlUnit's concatenated strings)
+        String key = start.get(0) == null ? null : start.get(0).toString();
+        long length = ((Number) start.get(1)).longValue();
+
+        Digest digest = new Digest(searches, prefixLength);
+        int chunks = 0;
+        try (Writer spill = spillFile != null ? Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8) : null) {
+            String chunk = start.get(2).toString();
+            long offset = 0;
+            while (true) {
+                digest.update(chunk);
+                if (spill != null) {
+                    spill.write(chunk);
+                }
+                chunks++;
+                offset += chunk.length();
+                if (offset >= length) {
+                    break;
+                }
+                Object next = js.executeScript(CHUNK_SCRIPT, key, offset, chunkSize);
+                if (next == null) {
+                    throw new WebDriverException("Page navigated away while reading its source: " + url);
+                }
+                chunk = next.toString();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write page source to " + spillFile, e);
+        } finally {
+            if (key != null) {
+                try {
+                    js.executeScript(END_SCRIPT, key);
+                } catch (WebDriverException e) {
+                    // Gone with the page
+                }
+            }
+        }
+        return new PageSnapshot(url, length, digest.utf8Length, digest.hex(), digest.prefix.toString(),
+                digest.found(), spillFile, chunks);
+    }
+
+    /**
+     * Incremental hash, prefix and substring search over consecutive chunks
+     */
+    private static final class Digest {
+
+        private final MessageDigest sha256;
+        private final int prefixLength;
+        private final StringBuilder prefix = new StringBuilder();
+        private final List<String> searches;
+        private final boolean[] found;
+        // Tail of the previous chunk, so matches spanning a chunk boundary are found
+        private String carry = "";
+        private final int carryLength;
+        private long utf8Length;
+
+        Digest(List<String> searches, int prefixLength) {
+            try {
+                this.sha256 = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            this.prefixLength = prefixLength;
+            this.searches = searches;
+            this.found = new boolean[searches.size()];
+            int longest = 0;
+            for (String search : searches) {
+                longest = Math.max(longest, search.length());
+            }
+            this.carryLength = Math.max(0, longest - 1);
+        }
+
+        void update(String chunk) {
+            byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+            sha256.update(bytes);
+            utf8Length += bytes.length;
+            if (prefix.length() < prefixLength) {
+                prefix.append(chunk, 0, Math.min(chunk.length(), prefixLength - prefix.length()));
+            }
+            if (!searches.isEmpty()) {
+                String window = carry + chunk;
+                for (int i = 0; i < found.length; i++) {
+                    found[i] = found[i] || window.contains(searches.get(i));
+                }
+                carry = window.substring(Math.max(0, window.length() - carryLength));
+            }
+        }
+
+        String hex() {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : sha256.digest()) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        }
+
+        Map<String, Boolean> found() {
+            Map<String, Boolean> result = new LinkedHashMap<>();
+            for (int i = 0; i < found.length; i++) {
+                result.put(searches.get(i), found[i]);
+            }
+            return result;
+        }
+    }
+}
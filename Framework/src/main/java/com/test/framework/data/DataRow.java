@@ -0,0 +1,150 @@
+package com.test.framework.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * One record of a data file, with typed access by column name.
+ *
+ * CSV values are strings and are converted on access; JSONL values keep
+ * their JSON type. Conversion errors name the file and record, so a bad row
+ * in a large file can be found.
+ */
+public final class DataRow {
+
+    private final String source;
+    private final long number;
+    private final Map<String, Object> values;
+
+    DataRow(String source, long number, Map<String, Object> values) {
+        this.source = source;
+        this.number = number;
+        this.values = values;
+    }
+
+    /**
+     * File (or resource) name this row was read from
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * 1-based record number, not counting the CSV header
+     */
+    public long getNumber() {
+        return number;
+    }
+
+    public boolean has(String column) {
+        return values.get(column) != null;
+    }
+
+    public Map<String, Object> asMap() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * @return the value as text, or null if the column is missing or empty
+     */
+    public String getString(String column) {
+        Object value = values.get(column);
+        if (value == null) {
+            return null;
+        }
+        String text = value.toString();
+        return text.isEmpty() ? null : text;
+    }
+
+    public String getString(String column, String defaultValue) {
+        String value = getString(column);
+        return value == null ? defaultValue : value;
+    }
+
+    public int getInt(String column) {
+        Object value = require(column);
+        try {
+            if (value instanceof Number) {
+                return Math.toIntExact(((Number) value).longValue());
+            }
+            return Integer.parseInt(value.toString().trim());
+        } catch (ArithmeticException | NumberFormatException e) {
+            throw invalid(column, "an integer", value);
+        }
+    }
+
+    /**
+     * Accepts true/false, yes/no, y/n and 1/0 in any case
+     */
+    public boolean getBoolean(String column) {
+        Object value = require(column);
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        switch (value.toString().trim().toLowerCase(Locale.ROOT)) {
+            case "true":
+            case "yes":
+            case "y":
+            case "1":
+                return true;
+            case "false":
+            case "no":
+            case "n":
+            case "0":
+                return false;
+            default:
+                throw invalid(column, "a boolean", value);
+        }
+    }
+
+    public <E extends Enum<E>> E getEnum(String column, Class<E> type) {
+        Object value = require(column);
+        try {
+            return Enum.valueOf(type, value.toString().trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw invalid(column, "one of " + Arrays.toString(type.getEnumConstants()), value);
+        }
+    }
+
+    /**
+     * A JSON array, or a CSV cell split on ';'. Missing or empty gives an
+     * empty list.
+     */
+    public List<String> getList(String column) {
+        Object value = values.get(column);
+        List<String> list = new ArrayList<>();
+        if (value instanceof List) {
+            for (Object item : (List<?>) value) {
+                list.add(String.valueOf(item));
+            }
+        } else if (value != null) {
+            for (String item : value.toString().split(";")) {
+                if (!item.trim().isEmpty()) {
+                    list.add(item.trim());
+                }
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public String toString() {
+        return source + "#" + number;
+    }
+
+    private Object require(String column) {
+        Object value = values.get(column);
+        if (value == null || value.toString().isEmpty()) {
+            throw new IllegalArgumentException(this + ": missing value for '" + column + "'");
+        }
+        return value;
+    }
+
+    private IllegalArgumentException invalid(String column, String expected, Object value) {
+        return new IllegalArgumentException(this + ": '" + column + "' is not " + expected + ": " + value);
+    }
+}
@@ -0,0 +1,11 @@
+package com.test.framework.data;
+
+/**
+ * Turns a {@link DataRow} into a typed test argument. Called once per row as
+ * the row is read; return a new object for every row.
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    T map(DataRow row);
+}
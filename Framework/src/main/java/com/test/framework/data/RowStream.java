@@ -0,0 +1,277 @@
+package com.test.framework.data;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads a CSV or JSONL data file one record at a time.
+ *
+ * The file is opened on the first {@link #hasNext()} and closed once the last
+ * record has been read, so only the current record is in memory whatever the
+ * file size. CSV needs a header row and follows RFC 4180 quoting (quoted
+ * fields may contain commas, doubled quotes and line breaks). JSONL has one
+ * JSON object per line. Blank lines are skipped in both.
+ *
+ * Not thread-safe; a TestNG data provider reads it from a single thread.
+ */
+public class RowStream implements Iterator<DataRow>, AutoCloseable {
+
+    private static final Json JSON = new Json();
+
+    private enum Format {
+        CSV, JSONL
+    }
+
+    @FunctionalInterface
+    private interface Opener {
+        Reader open() throws IOException;
+    }
+
+    private final String name;
+    private final Format format;
+    private final Opener opener;
+    private BufferedReader reader;
+    private List<String> header;
+    private long lineNumber;
+    private long rowNumber;
+    private DataRow next;
+    private boolean finished;
+
+    private RowStream(String name, Format format, Opener opener) {
+        this.name = name;
+        this.format = format;
+        this.opener = opener;
+    }
+
+    /**
+     * CSV or JSONL depending on the file extension (.csv, .jsonl or .ndjson)
+     */
+    public static RowStream open(Path file) {
+        return new RowStream(file.toString(), formatOf(file.toString()),
+                () -> Files.newBufferedReader(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Classpath resource, CSV or JSONL depending on the extension
+     */
+    public static RowStream resource(String name) {
+        return new RowStream(name, formatOf(name), () -> {
+            ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            InputStream in = (loader != null ? loader : RowStream.class.getClassLoader()).getResourceAsStream(name);
+            if (in == null) {
+                throw new IOException("No such resource on the classpath");
+            }
+            return new InputStreamReader(in, StandardCharsets.UTF_8);
+        });
+    }
+
+    /**
+     * Mapped view of the remaining rows; mapping happens as rows are read
+     */
+    public <T> Iterator<T> map(RowMapper<T> mapper) {
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return RowStream.this.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return mapper.map(RowStream.this.next());
+            }
+        };
+    }
+
+    /**
+     * The remaining rows as single-argument TestNG parameters
+     */
+    public Iterator<Object[]> asParameters(RowMapper<?> mapper) {
+        Iterator<?> rows = map(mapper);
+        return new Iterator<Object[]>() {
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                return new Object[]{rows.next()};
+            }
+        };
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            try {
+                if (reader == null) {
+                    reader = new BufferedReader(opener.open(), 64 * 1024);
+                }
+                next = format == Format.CSV ? readCsv() : readJsonl();
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException("Cannot read " + name, e);
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+            if (next == null) {
+                close();
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public DataRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException(name + " has no more rows");
+        }
+        DataRow row = next;
+        next = null;
+        return row;
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                // Nothing left to read from it
+            }
+            reader = null;
+        }
+    }
+
+    private DataRow readCsv() throws IOException {
+        if (header == null) {
+            List<String> columns = readCsvRecord();
+            if (columns == null) {
+                return null;
+            }
+            // Spreadsheet exports often start with a byte order mark
+            if (columns.get(0).startsWith("\uFEFF")) {
+                columns.set(0, columns.get(0).substring(1));
+            }
+            header = columns;
+        }
+        List<String> fields = readCsvRecord();
+        if (fields == null) {
+            return null;
+        }
+        if (fields.size() != header.size()) {
+            throw new IllegalArgumentException(name + ":" + lineNumber + ": expected " + header.size()
+                    + " columns but found " + fields.size());
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            values.put(header.get(i), fields.get(i));
+        }
+        return new DataRow(name, ++rowNumber, values);
+    }
+
+    private List<String> readCsvRecord() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isEmpty());
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                // Line break inside a quoted field
+                line = reader.readLine();
+                if (line == null) {
+                    throw new IllegalArgumentException(name + ":" + lineNumber + ": unterminated quoted field");
+                }
+                lineNumber++;
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private DataRow readJsonl() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.trim().isEmpty());
+
+        Map<String, Object> values;
+        try {
+            values = JSON.toType(line, Json.MAP_TYPE);
+        } catch (JsonException | ClassCastException e) {
+            throw new IllegalArgumentException(name + ":" + lineNumber + ": not a JSON object", e);
+        }
+        return new DataRow(name, ++rowNumber, values);
+    }
+
+    private static Format formatOf(String name) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".csv")) {
+            return Format.CSV;
+        }
+        if (lower.endsWith(".jsonl") || lower.endsWith(".ndjson")) {
+            return Format.JSONL;
+        }
+        throw new IllegalArgumentException("Not a .csv or .jsonl data file: " + name);
+    }
+}
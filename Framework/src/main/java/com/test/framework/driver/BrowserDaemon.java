@@ -0,0 +1,582 @@
+package com.test.framework.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps warm Chrome instances running between JVM runs so tests attach to a
+ * browser instead of cold-starting one.
+ *
+ * The daemon is a small Java process per launch profile. It starts
+ * -Dbrowser.daemon.browsers Chrome instances (default 4) with persistent
+ * profile directories and remote debugging on a free port, restarts any that
+ * crash, and shuts down after -Dbrowser.daemon.idleMinutes (default 30)
+ * without a test attached. Its state lives in ~/.cache/selenium-framework/daemon
+ * (override with -Dbrowser.daemon.dir).
+ *
+ * Test JVMs use it through {@link DriverBackend#DAEMON}: the first attach
+ * starts the daemon if it isn't running. Each session leases one browser
+ * exclusively (a file lock, released on quit or when the JVM dies), attaches
+ * chromedriver to its debugging address and works in a fresh browser context,
+ * so cookies, storage and cache never leak between sessions. When every
+ * browser is leased or the daemon can't be reached the session falls back to
+ * a normal launch.
+ *
+ * Run it in the foreground with
+ * {@code java -cp ... com.test.framework.driver.BrowserDaemon [default|fast]}.
+ */
+public final class BrowserDaemon {
+
+    private static final String REGISTRY = "browsers.properties";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration SUPERVISE_INTERVAL = Duration.ofSeconds(1);
+
+    // Threads of one JVM can't share spawn.lock, a second lock on it would throw
+    private static final Object SPAWN = new Object();
+
+    // Leases held by this JVM; a second lock on the same file from one JVM would throw
+    private static final Map<Path, FileLock> LEASES = new ConcurrentHashMap<>();
+
+    private final LaunchProfile profile;
+    private final Path home;
+    private final List<Process> browsers = new ArrayList<>();
+    private final List<String> addresses = new ArrayList<>();
+
+    private BrowserDaemon(LaunchProfile profile) {
+        this.profile = profile;
+        this.home = homeOf(profile);
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LaunchProfile profile = args.length > 0
+                ? LaunchProfile.valueOf(args[0].toUpperCase(Locale.ROOT))
+                : LaunchProfile.fromSystemProperties();
+        new BrowserDaemon(profile).run();
+    }
+
+    /**
+     * Attaches a new session to a warm browser of the profile's daemon, starting
+     * the daemon when needed, or launches a browser the normal way when no warm
+     * one is available
+     */
+    public static WebDriver attach(LaunchProfile profile, ChromeOptions options) {
+        Path home = homeOf(profile);
+        try {
+            Properties registry = ensureRunning(profile, home);
+            int count = Integer.parseInt(registry.getProperty("browsers", "0"));
+            for (int slot = 0; slot < count; slot++) {
+                FileLock lease = tryLease(home.resolve("slot-" + slot + ".lock"));
+                if (lease == null) {
+                    continue;
+                }
+                String address = awaitBrowser(home, slot);
+                if (address != null) {
+                    try {
+                        return profile.prepare(openSession(address, options, lease), DriverBackend.DAEMON);
+                    } catch (WebDriverException e) {
+                        System.out.println("✗ Could not attach to warm browser " + address + ": " + e.getMessage());
+                    }
+                }
+                release(lease);
+            }
+            System.out.println("⚠ No warm browser free, launching a new one");
+        } catch (IllegalStateException e) {
+            System.out.println("⚠ Browser daemon unavailable (" + e.getMessage() + "), launching a new one");
+        }
+        return DriverBackend.CHROME.launch(profile, options);
+    }
+
+    private static WebDriver openSession(String address, ChromeOptions options, FileLock lease) {
+        DriverResolver.resolveChromeDriver();
+        ChromeOptions attachOptions = new ChromeOptions().merge(options);
+        attachOptions.setExperimentalOption("debuggerAddress", address);
+        ChromeDriver driver = new ChromeDriver(attachOptions);
+        try {
+            return isolate(driver, lease);
+        } catch (WebDriverException e) {
+            // Detaches chromedriver; the warm browser itself keeps running
+            driver.quit();
+            throw e;
+        }
+    }
+
+    private static WebDriver isolate(ChromeDriver driver, FileLock lease) {
+        String contextId = null;
+        String target;
+        try {
+            contextId = (String) driver.executeCdpCommand("Target.createBrowserContext", Map.of())
+                    .get("browserContextId");
+            target = (String) driver.executeCdpCommand("Target.createTarget",
+                    Map.of("url", "about:blank", "browserContextId", contextId)).get("targetId");
+        } catch (WebDriverException e) {
+            // Older browsers: keep the default context but start from a clean slate
+            driver.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            driver.executeCdpCommand("Network.clearBrowserCache", Map.of());
+            target = (String) driver.executeCdpCommand("Target.createTarget", Map.of("url", "about:blank"))
+                    .get("targetId");
+        }
+
+        // The lease is exclusive, so every other tab is left over from a previous session
+        driver.switchTo().window(target);
+        for (String handle : driver.getWindowHandles()) {
+            if (!handle.equals(target)) {
+                driver.executeCdpCommand("Target.closeTarget", Map.of("targetId", handle));
+            }
+        }
+        Object contexts = driver.executeCdpCommand("Target.getBrowserContexts", Map.of()).get("browserContextIds");
+        if (contexts instanceof List) {
+            for (Object stale : (List<?>) contexts) {
+                if (!stale.equals(contextId)) {
+                    driver.executeCdpCommand("Target.disposeBrowserContext", Map.of("browserContextId", stale));
+                }
+            }
+        }
+        return new EventFiringDecorator<>(new Session(driver, contextId, lease)).decorate(driver);
+    }
+
+    /**
+     * Registry of the profile's daemon, starting one when none is alive. The
+     * check and the start happen under spawn.lock, so of several JVMs that find
+     * no daemon only the first starts one and the others wait for its registry.
+     */
+    private static Properties ensureRunning(LaunchProfile profile, Path home) {
+        synchronized (SPAWN) {
+            try {
+                Files.createDirectories(home);
+                try (FileChannel channel = FileChannel.open(home.resolve("spawn.lock"),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                     FileLock ignored = channel.lock()) {
+                    Process started = isDaemonRunning(home) ? null : startDaemonProcess(profile, home);
+                    return awaitRegistry(home, started);
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+    }
+
+    private static Properties awaitRegistry(Path home, Process started) {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            Properties registry = load(home.resolve(REGISTRY));
+            if (registry.getProperty("browsers") != null && isDaemonRunning(home)) {
+                return registry;
+            }
+            if (started != null && !started.isAlive()) {
+                throw new IllegalStateException("daemon exited, see " + home.resolve("daemon.log"));
+            }
+            sleep(Duration.ofMillis(100));
+        }
+        throw new IllegalStateException("daemon did not start within " + STARTUP_TIMEOUT.getSeconds() + " s");
+    }
+
+    /**
+     * Whether the daemon named in the registry is alive. Only the daemon takes
+     * daemon.lock, so probing never races a daemon that is just starting.
+     */
+    private static boolean isDaemonRunning(Path home) {
+        Properties registry = load(home.resolve(REGISTRY));
+        String pid = registry.getProperty("daemon.pid");
+        if (pid == null) {
+            return false;
+        }
+        ProcessHandle daemon = ProcessHandle.of(Long.parseLong(pid)).filter(ProcessHandle::isAlive).orElse(null);
+        if (daemon == null) {
+            return false;
+        }
+        // A reused pid: trust the command line when the OS reports it, else a warm browser answering
+        Optional<String> commandLine = daemon.info().commandLine();
+        if (commandLine.isPresent()) {
+            return commandLine.get().contains(BrowserDaemon.class.getName());
+        }
+        int count = Integer.parseInt(registry.getProperty("browsers", "0"));
+        for (int slot = 0; slot < count; slot++) {
+            String address = registry.getProperty("browser." + slot + ".address");
+            if (address != null && isResponding(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Process startDaemonProcess(LaunchProfile profile, Path home) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(daemonClassPath());
+        for (String property : new String[]{"browser.daemon.dir", "browser.daemon.browsers",
+                "browser.daemon.idleMinutes", "chrome.binary", "browser.pageLoadStrategy"}) {
+            if (System.getProperty(property) != null) {
+                command.add("-D" + property + "=" + System.getProperty(property));
+            }
+        }
+        command.add(BrowserDaemon.class.getName());
+        command.add(profile.name());
+        File log = home.resolve("daemon.log").toFile();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(log))
+                .start();
+        System.out.println("🚀 Started browser daemon (" + profile + "), log: " + log);
+        return process;
+    }
+
+    /**
+     * Classpath the daemon's classes were loaded from. Under mvn exec:java the
+     * project and its dependencies are on a child URLClassLoader and
+     * java.class.path is Maven's own launcher, so the loaders are asked first.
+     */
+    static String daemonClassPath() {
+        Set<String> entries = new LinkedHashSet<>();
+        for (ClassLoader loader = BrowserDaemon.class.getClassLoader(); loader != null; loader = loader.getParent()) {
+            if (loader instanceof URLClassLoader) {
+                for (URL url : ((URLClassLoader) loader).getURLs()) {
+                    try {
+                        entries.add(Paths.get(url.toURI()).toString());
+                    } catch (URISyntaxException | IllegalArgumentException e) {
+                        // Not a local file, the child JVM couldn't use it anyway
+                    }
+                }
+            }
+        }
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            if (!entry.isEmpty()) {
+                entries.add(entry);
+            }
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+
+    /**
+     * Debugging address of the slot once its browser answers, allowing for a
+     * browser the daemon is restarting after a crash
+     */
+    private static String awaitBrowser(Path home, int slot) {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline && isDaemonRunning(home)) {
+            String address = load(home.resolve(REGISTRY)).getProperty("browser." + slot + ".address");
+            if (address != null && isResponding(address)) {
+                return address;
+            }
+            sleep(Duration.ofMillis(100));
+        }
+        return null;
+    }
+
+    private static boolean isResponding(String address) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL("http://" + address + "/json/version")
+                    .openConnection();
+            connection.setConnectTimeout(1000);
+            connection.setReadTimeout(1000);
+            try (InputStream in = connection.getInputStream()) {
+                in.readAllBytes();
+            }
+            return connection.getResponseCode() == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static FileLock tryLease(Path lockFile) {
+        if (LEASES.containsKey(lockFile)) {
+            return null;
+        }
+        try {
+            FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock lock = channel.tryLock();
+            if (lock == null || LEASES.putIfAbsent(lockFile, lock) != null) {
+                channel.close();
+                return null;
+            }
+            return lock;
+        } catch (IOException | OverlappingFileLockException e) {
+            return null;
+        }
+    }
+
+    private static void release(FileLock lease) {
+        LEASES.values().remove(lease);
+        try {
+            lease.channel().close();
+        } catch (IOException e) {
+            // Closing the channel releases the lock either way
+        }
+    }
+
+    /**
+     * Hands the browser back on quit: the session's context is disposed and the
+     * browser is left with one blank tab for the next attach
+     */
+    public static final class Session implements WebDriverListener {
+
+        private final ChromeDriver driver;
+        private final String contextId;
+        private final FileLock lease;
+
+        private Session(ChromeDriver driver, String contextId, FileLock lease) {
+            this.driver = driver;
+            this.contextId = contextId;
+            this.lease = lease;
+        }
+
+        @Override
+        public void beforeQuit(WebDriver decorated) {
+            try {
+                String blank = (String) driver.executeCdpCommand("Target.createTarget", Map.of("url", "about:blank"))
+                        .get("targetId");
+                driver.switchTo().window(blank);
+                if (contextId != null) {
+                    driver.executeCdpCommand("Target.disposeBrowserContext", Map.of("browserContextId", contextId));
+                } else {
+                    for (String handle : driver.getWindowHandles()) {
+                        if (!handle.equals(blank)) {
+                            driver.executeCdpCommand("Target.closeTarget", Map.of("targetId", handle));
+                        }
+                    }
+                }
+            } catch (WebDriverException e) {
+                // The next attach cleans up whatever is left
+            }
+        }
+
+        @Override
+        public void afterQuit(WebDriver decorated) {
+            release(lease);
+        }
+    }
+
+    private void run() throws IOException, InterruptedException {
+        Files.createDirectories(home);
+        try (FileChannel channel = FileChannel.open(home.resolve("daemon.lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock lock = channel.tryLock()) {
+            if (lock == null) {
+                // The registry and browsers belong to the running daemon
+                System.out.println("Browser daemon for " + profile + " is already running");
+                return;
+            }
+            try {
+                Path binary = DriverResolver.findBrowser();
+                if (binary == null) {
+                    throw new IllegalStateException("Chrome not found, set -Dchrome.binary");
+                }
+                killOrphans();
+                int count = Integer.getInteger("browser.daemon.browsers", 4);
+                for (int slot = 0; slot < count; slot++) {
+                    browsers.add(null);
+                    addresses.add(null);
+                    launch(binary, slot);
+                }
+                writeRegistry();
+                Runtime.getRuntime().addShutdownHook(new Thread(this::stopBrowsers, "browser-daemon-shutdown"));
+                System.out.println("🚀 Browser daemon (" + profile + ") ready with " + count + " browsers: "
+                        + addresses);
+
+                supervise(binary);
+            } finally {
+                stopBrowsers();
+                Files.deleteIfExists(home.resolve(REGISTRY));
+            }
+        }
+    }
+
+    private void supervise(Path binary) throws IOException, InterruptedException {
+        long idleNanos = TimeUnit.MINUTES.toNanos(Long.getLong("browser.daemon.idleMinutes", 30));
+        long lastBusy = System.nanoTime();
+        while (true) {
+            Thread.sleep(SUPERVISE_INTERVAL.toMillis());
+            for (int slot = 0; slot < browsers.size(); slot++) {
+                if (!browsers.get(slot).isAlive()) {
+                    System.out.println("✗ Browser " + slot + " exited with " + browsers.get(slot).exitValue()
+                            + ", restarting");
+                    launch(binary, slot);
+                    writeRegistry();
+                }
+            }
+            if (anyLeased()) {
+                lastBusy = System.nanoTime();
+            } else if (System.nanoTime() - lastBusy > idleNanos) {
+                System.out.println("Browser daemon idle, shutting down");
+                return;
+            }
+        }
+    }
+
+    private void launch(Path binary, int slot) throws IOException {
+        Path userDataDir = home.resolve("profile-" + slot);
+        Path portFile = userDataDir.resolve("DevToolsActivePort");
+        Files.createDirectories(userDataDir);
+        Files.deleteIfExists(portFile);
+
+        List<String> command = new ArrayList<>();
+        command.add(binary.toString());
+        command.addAll(arguments(profile.chromeOptions()));
+        command.add("--remote-debugging-port=0");
+        command.add("--user-data-dir=" + userDataDir);
+        command.add("--no-first-run");
+        command.add("--no-default-browser-check");
+        command.add("about:blank");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(home.resolve("browser-" + slot + ".log").toFile()))
+                .start();
+        browsers.set(slot, process);
+
+        // Chrome picks a free port and writes it to the first line of DevToolsActivePort
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline && process.isAlive()) {
+            if (Files.isRegularFile(portFile)) {
+                List<String> lines = Files.readAllLines(portFile, StandardCharsets.US_ASCII);
+                if (!lines.isEmpty() && !lines.get(0).trim().isEmpty()) {
+                    addresses.set(slot, "127.0.0.1:" + lines.get(0).trim());
+                    return;
+                }
+            }
+            sleep(Duration.ofMillis(50));
+        }
+        addresses.set(slot, null);
+        System.out.println("✗ Browser " + slot + " did not open its debugging port, see browser-" + slot + ".log");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> arguments(ChromeOptions options) {
+        Map<String, Object> chromeOptions = (Map<String, Object>) options.asMap().get(ChromeOptions.CAPABILITY);
+        Object args = chromeOptions == null ? null : chromeOptions.get("args");
+        List<String> arguments = new ArrayList<>();
+        if (args instanceof List) {
+            for (Object arg : (List<?>) args) {
+                arguments.add(String.valueOf(arg));
+            }
+        }
+        return arguments;
+    }
+
+    private boolean anyLeased() {
+        for (int slot = 0; slot < browsers.size(); slot++) {
+            try (FileChannel channel = FileChannel.open(home.resolve("slot-" + slot + ".lock"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                FileLock lock = channel.tryLock();
+                if (lock == null) {
+                    return true;
+                }
+                lock.release();
+            } catch (IOException e) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeRegistry() throws IOException {
+        Properties registry = new Properties();
+        registry.setProperty("profile", profile.name());
+        registry.setProperty("daemon.pid", String.valueOf(ProcessHandle.current().pid()));
+        registry.setProperty("browsers", String.valueOf(browsers.size()));
+        for (int slot = 0; slot < browsers.size(); slot++) {
+            registry.setProperty("browser." + slot + ".pid", String.valueOf(browsers.get(slot).pid()));
+            if (addresses.get(slot) != null) {
+                registry.setProperty("browser." + slot + ".address", addresses.get(slot));
+            }
+        }
+        Path tmp = Files.createTempFile(home, REGISTRY, ".tmp");
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            registry.store(out, "Browser daemon state, rewritten by the daemon");
+        }
+        Files.move(tmp, home.resolve(REGISTRY), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Browsers left behind by a daemon that died without cleaning up
+     */
+    private void killOrphans() {
+        Properties previous = load(home.resolve(REGISTRY));
+        for (String key : previous.stringPropertyNames()) {
+            if (key.startsWith("browser.") && key.endsWith(".pid")) {
+                // Only if the pid still belongs to one of our browsers and wasn't reused
+                ProcessHandle.of(Long.parseLong(previous.getProperty(key)))
+                        .filter(process -> process.info().commandLine()
+                                .map(line -> line.contains(home.toString())).orElse(false))
+                        .ifPresent(ProcessHandle::destroy);
+            }
+        }
+    }
+
+    private synchronized void stopBrowsers() {
+        for (Process process : browsers) {
+            if (process != null && process.isAlive()) {
+                process.destroy();
+                try {
+                    if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                        process.destroyForcibly();
+                    }
+                } catch (InterruptedException e) {
+                    process.destroyForcibly();
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private static Path homeOf(LaunchProfile profile) {
+        String configured = System.getProperty("browser.daemon.dir");
+        Path root = configured != null
+                ? Paths.get(configured)
+                : Paths.get(System.getProperty("user.home"), ".cache", "selenium-framework", "daemon");
+        return root.resolve(profile.name().toLowerCase(Locale.ROOT));
+    }
+
+    private static Properties load(Path file) {
+        Properties properties = new Properties();
+        if (Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                properties.load(in);
+            } catch (IOException e) {
+                // Being rewritten, the caller retries
+            }
+        }
+        return properties;
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.test.framework.driver;
+
+import com.test.framework.pool.DriverFactory;
+import org.htmlunit.BrowserVersion;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+import java.util.Locale;
+
+/**
+ * Where a WebDriver session runs, selected per suite with
+ * -Ddriver.backend=chrome|jvm|daemon or per test by the test harness.
+ *
+ * CHROME launches a real browser. JVM runs HtmlUnit inside the test process:
+ * it parses the HTML, supports all eight locator strategies, form input,
+ * clicks, visibility and JavaScript, and needs no browser process, so
+ * structural tests against static pages such as demo.html run at in-memory
+ * speed. Keep CHROME for anything that depends on real layout or rendering.
+ * DAEMON is CHROME without the startup cost: sessions attach to a warm
+ * browser kept running by the {@link BrowserDaemon} between JVM runs.
+ */
+public enum DriverBackend {
+
+    CHROME {
+        @Override
+        public WebDriver launch(LaunchProfile profile, ChromeOptions options) {
+            DriverResolver.resolveChromeDriver();
+            return profile.prepare(new ChromeDriver(options), this);
+        }
+    },
+
+    JVM {
+        @Override
+        public WebDriver launch(LaunchProfile profile, ChromeOptions options) {
+            // Chrome options don't apply, HtmlUnit emulates Chrome with JavaScript enabled
+            HtmlUnitDriver driver = new HtmlUnitDriver(BrowserVersion.CHROME, true);
+            driver.getWebClient().getOptions().setCssEnabled(true);
+            driver.getWebClient().getOptions().setThrowExceptionOnScriptError(false);
+            return profile.prepare(driver, this);
+        }
+    },
+
+    DAEMON {
+        @Override
+        public WebDriver launch(LaunchProfile profile, ChromeOptions options) {
+            return BrowserDaemon.attach(profile, options);
+        }
+    };
+
+    public static DriverBackend fromSystemProperties() {
+        return valueOf(System.getProperty("driver.backend", "chrome").toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Starts a session; the Chrome options are ignored by the JVM backend
+     */
+    public abstract WebDriver launch(LaunchProfile profile, ChromeOptions options);
+
+    /**
+     * Factory for a {@link com.test.framework.pool.DriverPool} launching
+     * sessions with the given profile
+     */
+    public DriverFactory factory(LaunchProfile profile) {
+        return () -> launch(profile, profile.chromeOptions());
+    }
+}
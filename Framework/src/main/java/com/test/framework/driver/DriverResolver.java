@@ -0,0 +1,348 @@
+package com.test.framework.driver;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Resolves the chromedriver binary from local disk without network access.
+ *
+ * The installed Chrome version is matched against drivers in a cache directory
+ * (default ~/.cache/selenium-framework/drivers, laid out as
+ * chromedriver/&lt;version&gt;/chromedriver, optionally with a
+ * chromedriver.sha256 file next to the binary). WebDriverManager's own cache
+ * (~/.cache/selenium) is searched as well. The outcome is memoized in a
+ * properties file, so later JVM runs only compare file sizes and timestamps and
+ * neither start the browser to ask its version nor hash the driver again.
+ *
+ * Integrity is only verified against a chromedriver.sha256 sidecar. A driver
+ * without one is trusted as found (and a notice printed), unless
+ * -Ddriver.resolver.requireChecksum=true makes the sidecar mandatory. The
+ * memo only guards against the file changing after it was first resolved.
+ *
+ * Downloading through WebDriverManager is an explicit opt-in with
+ * -Ddriver.resolver.download=true.
+ *
+ * Settings (system properties): driver.cache.dir, chrome.binary,
+ * driver.resolver.download, driver.resolver.requireChecksum.
+ */
+public final class DriverResolver {
+
+    private static final Pattern VERSION = Pattern.compile("(\\d+)\\.(\\d+)\\.(\\d+)\\.(\\d+)");
+    private static final String DRIVER_NAME = isWindows() ? "chromedriver.exe" : "chromedriver";
+    private static final String MEMO_FILE = "resolution.properties";
+
+    private static volatile Path resolvedChromeDriver;
+
+    private DriverResolver() {
+    }
+
+    /**
+     * Resolves chromedriver once per JVM and points webdriver.chrome.driver at it
+     */
+    public static synchronized Path resolveChromeDriver() {
+        if (resolvedChromeDriver == null) {
+            Path driver = resolve(cacheDir());
+            System.setProperty("webdriver.chrome.driver", driver.toString());
+            resolvedChromeDriver = driver;
+        }
+        return resolvedChromeDriver;
+    }
+
+    static Path resolve(Path cacheDir) {
+        Path memoFile = cacheDir.resolve(MEMO_FILE);
+        Properties memo = load(memoFile);
+
+        // Fast path: browser and driver are unchanged since the last run
+        Path memoized = fromMemo(memo);
+        if (memoized != null) {
+            return memoized;
+        }
+
+        Path browser = findBrowser();
+        String browserVersion = browser == null ? null : browserVersion(browser, memo);
+
+        Path driver = browserVersion == null ? null : findCachedDriver(cacheDir, browserVersion);
+        if (driver == null && Boolean.getBoolean("driver.resolver.download")) {
+            driver = download(cacheDir, browserVersion);
+        }
+        if (driver == null) {
+            throw new IllegalStateException("No chromedriver matching Chrome " + browserVersion
+                    + (browser == null ? " (browser not found, set -Dchrome.binary)" : " at " + browser)
+                    + " in " + cacheDir + ". Copy one to " + cacheDir.resolve("chromedriver")
+                    + "/<version>/" + DRIVER_NAME + " or allow downloads with -Ddriver.resolver.download=true");
+        }
+
+        String sha256 = sha256(driver);
+        Path expected = driver.resolveSibling(DRIVER_NAME + ".sha256");
+        if (Files.exists(expected)) {
+            String expectedSha = readFirstToken(expected);
+            if (!sha256.equalsIgnoreCase(expectedSha)) {
+                throw new IllegalStateException("Checksum mismatch for " + driver + ": expected "
+                        + expectedSha + " but was " + sha256);
+            }
+        } else if (Boolean.getBoolean("driver.resolver.requireChecksum")) {
+            throw new IllegalStateException("No " + expected.getFileName() + " next to " + driver
+                    + " and -Ddriver.resolver.requireChecksum=true");
+        } else {
+            System.out.println("Using " + driver + " without checksum verification (no "
+                    + expected.getFileName() + ")");
+        }
+
+        if (browser != null) {
+            memo.setProperty("browser.path", browser.toString());
+            memo.setProperty("browser.fingerprint", fingerprint(browser));
+            memo.setProperty("browser.version", browserVersion);
+        }
+        memo.setProperty("driver.path", driver.toString());
+        memo.setProperty("driver.fingerprint", fingerprint(driver));
+        memo.setProperty("driver.sha256", sha256);
+        store(memo, memoFile);
+        return driver;
+    }
+
+    private static Path fromMemo(Properties memo) {
+        String browserPath = memo.getProperty("browser.path");
+        String driverPath = memo.getProperty("driver.path");
+        if (browserPath == null || driverPath == null) {
+            return null;
+        }
+        Path browser = Paths.get(browserPath);
+        Path driver = Paths.get(driverPath);
+        String configuredBrowser = System.getProperty("chrome.binary");
+        if (configuredBrowser != null && !Paths.get(configuredBrowser).equals(browser)) {
+            return null;
+        }
+        if (!fingerprint(browser).equals(memo.getProperty("browser.fingerprint"))) {
+            // Chrome was updated, the driver has to be matched again
+            return null;
+        }
+        if (!fingerprint(driver).equals(memo.getProperty("driver.fingerprint"))) {
+            // The driver file changed on disk, only trust it if the content is identical
+            if (!Files.isRegularFile(driver) || !sha256(driver).equalsIgnoreCase(memo.getProperty("driver.sha256"))) {
+                return null;
+            }
+        }
+        return driver;
+    }
+
+    private static String browserVersion(Path browser, Properties memo) {
+        if (browser.toString().equals(memo.getProperty("browser.path"))
+                && fingerprint(browser).equals(memo.getProperty("browser.fingerprint"))) {
+            return memo.getProperty("browser.version");
+        }
+        if (isWindows()) {
+            // chrome.exe --version prints nothing on Windows, the install dir is named after the version
+            try (DirectoryStream<Path> dirs = Files.newDirectoryStream(browser.getParent())) {
+                for (Path dir : dirs) {
+                    if (Files.isDirectory(dir) && VERSION.matcher(dir.getFileName().toString()).matches()) {
+                        return dir.getFileName().toString();
+                    }
+                }
+            } catch (IOException e) {
+                return null;
+            }
+            return null;
+        }
+        try {
+            Process process = new ProcessBuilder(browser.toString(), "--version").redirectErrorStream(true).start();
+            String output;
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                output = reader.readLine();
+            }
+            process.waitFor(10, TimeUnit.SECONDS);
+            Matcher matcher = VERSION.matcher(output == null ? "" : output);
+            return matcher.find() ? matcher.group() : null;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    static Path findBrowser() {
+        List<String> candidates = new ArrayList<>();
+        String configured = System.getProperty("chrome.binary");
+        if (configured != null) {
+            candidates.add(configured);
+        } else if (isWindows()) {
+            for (String env : new String[]{"PROGRAMFILES", "PROGRAMFILES(X86)", "LOCALAPPDATA"}) {
+                String base = System.getenv(env);
+                if (base != null) {
+                    candidates.add(base + "\\Google\\Chrome\\Application\\chrome.exe");
+                }
+            }
+        } else if (System.getProperty("os.name").toLowerCase(Locale.ROOT).contains("mac")) {
+            candidates.add("/Applications/Google Chrome.app/Contents/MacOS/Google Chrome");
+        } else {
+            candidates.add("/usr/bin/google-chrome");
+            candidates.add("/usr/bin/google-chrome-stable");
+            candidates.add("/usr/bin/chromium");
+            candidates.add("/usr/bin/chromium-browser");
+        }
+        for (String candidate : candidates) {
+            Path path = Paths.get(candidate);
+            if (Files.isRegularFile(path)) {
+                return path;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Looks for an exact version match first, then any driver of the same major
+     * version, which Chrome for Testing guarantees to be compatible
+     */
+    private static Path findCachedDriver(Path cacheDir, String browserVersion) {
+        String major = browserVersion.substring(0, browserVersion.indexOf('.'));
+        Path bestMatch = null;
+        for (Path root : new Path[]{cacheDir.resolve("chromedriver"),
+                Paths.get(System.getProperty("user.home"), ".cache", "selenium", "chromedriver")}) {
+            if (!Files.isDirectory(root)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.walk(root, 4)) {
+                for (Path driver : (Iterable<Path>) files
+                        .filter(path -> path.getFileName().toString().equals(DRIVER_NAME))
+                        .filter(Files::isRegularFile)::iterator) {
+                    String version = versionOf(driver);
+                    if (browserVersion.equals(version)) {
+                        return driver;
+                    }
+                    if (bestMatch == null && version != null && version.startsWith(major + ".")) {
+                        bestMatch = driver;
+                    }
+                }
+            } catch (IOException e) {
+                // Unreadable cache directory, try the next one
+            }
+        }
+        return bestMatch;
+    }
+
+    private static String versionOf(Path driver) {
+        for (Path dir = driver.getParent(); dir != null; dir = dir.getParent()) {
+            Matcher matcher = VERSION.matcher(dir.getFileName() == null ? "" : dir.getFileName().toString());
+            if (matcher.find()) {
+                return matcher.group();
+            }
+        }
+        return null;
+    }
+
+    private static Path download(Path cacheDir, String browserVersion) {
+        WebDriverManager manager = WebDriverManager.chromedriver();
+        if (browserVersion != null) {
+            manager.browserVersion(browserVersion);
+        }
+        manager.setup();
+        Path downloaded = Paths.get(manager.getDownloadedDriverPath());
+        String version = manager.getDownloadedDriverVersion();
+
+        // Keep a copy in our own cache so the next run resolves offline
+        Path target = cacheDir.resolve("chromedriver").resolve(version).resolve(DRIVER_NAME);
+        try {
+            Files.createDirectories(target.getParent());
+            Files.copy(downloaded, target, StandardCopyOption.REPLACE_EXISTING);
+            target.toFile().setExecutable(true);
+            Files.write(target.resolveSibling(DRIVER_NAME + ".sha256"),
+                    sha256(target).getBytes(StandardCharsets.US_ASCII));
+            return target;
+        } catch (IOException e) {
+            return downloaded;
+        }
+    }
+
+    private static Path cacheDir() {
+        String configured = System.getProperty("driver.cache.dir");
+        return configured != null
+                ? Paths.get(configured)
+                : Paths.get(System.getProperty("user.home"), ".cache", "selenium-framework", "drivers");
+    }
+
+    private static String fingerprint(Path file) {
+        try {
+            return Files.size(file) + "@" + Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return "missing";
+        }
+    }
+
+    static String sha256(Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot checksum " + file, e);
+        }
+    }
+
+    private static String readFirstToken(Path file) {
+        try {
+            String content = new String(Files.readAllBytes(file), StandardCharsets.US_ASCII).trim();
+            return content.isEmpty() ? "" : content.split("\\s+")[0];
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read " + file, e);
+        }
+    }
+
+    private static Properties load(Path file) {
+        Properties properties = new Properties();
+        if (Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                properties.load(in);
+            } catch (IOException e) {
+                // A corrupt memo file only costs one full resolution
+            }
+        }
+        return properties;
+    }
+
+    private static void store(Properties properties, Path file) {
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), MEMO_FILE, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                properties.store(out, "Driver resolution cache, safe to delete");
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Not fatal, the next run resolves again
+        }
+    }
+
+    private static boolean isWindows() {
+        return System.getProperty("os.name").toLowerCase(Locale.ROOT).startsWith("windows");
+    }
+}
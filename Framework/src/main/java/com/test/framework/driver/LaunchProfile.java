@@ -0,0 +1,132 @@
+package com.test.framework.driver;
+
+import com.test.framework.locator.LocatorRewriter;
+import com.test.framework.metrics.CommandTimingListener;
+import com.test.framework.metrics.PageMetricsListener;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Level;
+
+/**
+ * Named browser launch profiles, selected with -Dbrowser.profile=default|fast.
+ *
+ * DEFAULT is a normal visible browser. FAST is meant for functional runs that
+ * never look at pixels: headless with a fixed viewport, eager page loads
+ * (override with -Dbrowser.pageLoadStrategy), no extensions or background
+ * networking, and images, fonts, media and known third-party hosts blocked in
+ * the network layer. Extra hosts to block can be given as a comma separated
+ * list in -Dbrowser.block.domains.
+ */
+public enum LaunchProfile {
+
+    DEFAULT,
+    FAST;
+
+    private static final List<String> BLOCKED_RESOURCES = Arrays.asList(
+            // Images
+            "*.png", "*.jpg", "*.jpeg", "*.gif", "*.webp", "*.avif", "*.svg", "*.ico", "*.bmp",
+            // Fonts
+            "*.woff", "*.woff2", "*.ttf", "*.otf", "*.eot",
+            // Media
+            "*.mp4", "*.webm", "*.ogg", "*.mp3", "*.wav", "*.m4a", "*.mov");
+
+    private static final List<String> BLOCKED_DOMAINS = Arrays.asList(
+            "google-analytics.com", "googletagmanager.com", "doubleclick.net", "googlesyndication.com",
+            "facebook.net", "connect.facebook.net", "hotjar.com", "segment.io", "newrelic.com",
+            "nr-data.net", "fonts.googleapis.com", "fonts.gstatic.com");
+
+    public static LaunchProfile fromSystemProperties() {
+        return valueOf(System.getProperty("browser.profile", "default").toUpperCase(Locale.ROOT));
+    }
+
+    public ChromeOptions chromeOptions() {
+        ChromeOptions options = new ChromeOptions();
+        if (this == FAST) {
+            options.addArguments(
+                    "--headless=new",
+                    "--window-size=1366,768",
+                    "--disable-extensions",
+                    "--disable-background-networking",
+                    "--disable-component-update",
+                    "--disable-default-apps",
+                    "--disable-sync",
+                    "--no-first-run",
+                    "--blink-settings=imagesEnabled=false");
+        }
+        options.setPageLoadStrategy(pageLoadStrategy());
+        // Keep console messages so failure artifacts can include them
+        LoggingPreferences logging = new LoggingPreferences();
+        logging.enable(LogType.BROWSER, Level.ALL);
+        options.setCapability("goog:loggingPrefs", logging);
+        return options;
+    }
+
+    /**
+     * Applies the parts of the profile that need a running session and wraps the
+     * driver so every navigation is timed and, unless -Dcommand.metrics=false,
+     * every command's latency is recorded. With -Dpage.metrics=true the browser's
+     * performance figures are collected after each navigation, and with
+     * -Dlocator.rewrite=apply|measure XPath lookups go through a
+     * {@link LocatorRewriter}.
+     */
+    public WebDriver prepare(WebDriver driver, DriverBackend backend) {
+        if (this == FAST && driver instanceof HasCdp) {
+            HasCdp cdp = (HasCdp) driver;
+            cdp.executeCdpCommand("Network.enable", Map.of());
+            cdp.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", blockedUrlPatterns()));
+        }
+        LocatorRewriter.Mode rewrite = LocatorRewriter.Mode.fromSystemProperties();
+        if (rewrite != LocatorRewriter.Mode.OFF) {
+            driver = new LocatorRewriter(rewrite).decorate(driver);
+        }
+        List<WebDriverListener> listeners = new ArrayList<>();
+        listeners.add(new NavigationTimer(this, backend));
+        if (Boolean.parseBoolean(System.getProperty("command.metrics", "true"))) {
+            listeners.add(new CommandTimingListener());
+        }
+        if (Boolean.parseBoolean(System.getProperty("page.metrics", "false"))) {
+            String browser = driver instanceof HasCapabilities
+                    ? ((HasCapabilities) driver).getCapabilities().getBrowserName() : "";
+            listeners.add(new PageMetricsListener(driver,
+                    name() + "|" + backend.name() + "|" + (browser.isEmpty() ? "unknown" : browser)));
+        }
+        return new EventFiringDecorator<WebDriver>(listeners.toArray(new WebDriverListener[0])).decorate(driver);
+    }
+
+    private PageLoadStrategy pageLoadStrategy() {
+        String configured = System.getProperty("browser.pageLoadStrategy");
+        if (configured != null) {
+            return PageLoadStrategy.fromString(configured.toLowerCase(Locale.ROOT));
+        }
+        return this == FAST ? PageLoadStrategy.EAGER : PageLoadStrategy.NORMAL;
+    }
+
+    private static List<String> blockedUrlPatterns() {
+        List<String> patterns = new ArrayList<>(BLOCKED_RESOURCES);
+        List<String> domains = new ArrayList<>(BLOCKED_DOMAINS);
+        String extra = System.getProperty("browser.block.domains", "");
+        for (String domain : extra.split(",")) {
+            if (!domain.trim().isEmpty()) {
+                domains.add(domain.trim());
+            }
+        }
+        for (String domain : domains) {
+            patterns.add("*://" + domain + "/*");
+            patterns.add("*." + domain + "/*");
+        }
+        return patterns;
+    }
+}
@@ -0,0 +1,167 @@
+package com.test.framework.driver;
+
+import com.test.framework.metrics.HistoryFile;
+import com.test.framework.metrics.PageMetrics;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every navigation and reports how much faster it was than the same URL
+ * under the DEFAULT profile on the same backend.
+ *
+ * Average load times per profile, backend and URL are kept across runs in
+ * ~/.cache/selenium-framework/navigation-times.properties (override with
+ * -Dnavigation.times.file), so a default-profile run establishes the baseline
+ * the fast profile is compared against. URLs are keyed as by
+ * {@link PageMetrics#key}, without the ephemeral port of a local fixture
+ * server. Parallel JVMs merge their runs into the file under a lock.
+ *
+ * Only the first navigation per URL in a JVM is printed, all of them with
+ * -Dnavigation.log=true.
+ *
+ * Public only because EventFiringDecorator invokes listener methods
+ * reflectively; instances are created by {@link LaunchProfile#prepare}.
+ */
+public class NavigationTimer implements WebDriverListener {
+
+    private static final Properties TIMES;
+    private static final Path TIMES_FILE;
+    private static final Map<String, long[]> RUN = new HashMap<>();
+    private static final Set<String> PRINTED = ConcurrentHashMap.newKeySet();
+
+    static {
+        String configured = System.getProperty("navigation.times.file");
+        TIMES_FILE = configured != null
+                ? Paths.get(configured)
+                : Paths.get(System.getProperty("user.home"), ".cache", "selenium-framework", "navigation-times.properties");
+        TIMES = HistoryFile.read(TIMES_FILE);
+        Runtime.getRuntime().addShutdownHook(new Thread(NavigationTimer::save, "navigation-times"));
+    }
+
+    private final LaunchProfile profile;
+    private final DriverBackend backend;
+    private long startNanos;
+
+    NavigationTimer(LaunchProfile profile, DriverBackend backend) {
+        this.profile = profile;
+        this.backend = backend;
+    }
+
+    @Override
+    public void beforeGet(WebDriver driver, String url) {
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void beforeTo(WebDriver.Navigation navigation, String url) {
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void afterTo(WebDriver.Navigation navigation, String url) {
+        afterGet(null, url);
+    }
+
+    @Override
+    public void afterGet(WebDriver driver, String url) {
+        if (url.startsWith("about:") || url.startsWith("data:")) {
+            return;
+        }
+        long millis = (System.nanoTime() - startNanos) / 1_000_000;
+        String page = PageMetrics.key(url);
+        record(key(profile, backend, page), millis);
+
+        boolean first = PRINTED.add(key(profile, backend, page));
+        if (profile == LaunchProfile.DEFAULT || !(first || Boolean.getBoolean("navigation.log"))) {
+            return;
+        }
+        Double baseline = average(key(LaunchProfile.DEFAULT, backend, page));
+        if (baseline != null) {
+            System.out.printf("⏱ %s loaded in %d ms with the %s profile, %.0f ms saved vs default%n",
+                    url, millis, profile.name().toLowerCase(Locale.ROOT), baseline - millis);
+        } else {
+            System.out.printf("⏱ %s loaded in %d ms with the %s profile (no default baseline yet)%n",
+                    url, millis, profile.name().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private static String key(LaunchProfile profile, DriverBackend backend, String page) {
+        return profile.name() + "|" + backend.name() + "|" + page;
+    }
+
+    private static void record(String key, long millis) {
+        synchronized (RUN) {
+            long[] run = RUN.computeIfAbsent(key, k -> new long[2]);
+            run[0] += millis;
+            run[1]++;
+        }
+    }
+
+    /**
+     * Average over earlier runs and this one
+     */
+    private static Double average(String key) {
+        double sum = 0;
+        long count = 0;
+        String stored = TIMES.getProperty(key);
+        if (stored != null) {
+            String[] parts = stored.split(",");
+            count = Long.parseLong(parts[1]);
+            sum = Double.parseDouble(parts[0]) * count;
+        }
+        synchronized (RUN) {
+            long[] run = RUN.get(key);
+            if (run != null) {
+                sum += run[0];
+                count += run[1];
+            }
+        }
+        return count == 0 ? null : sum / count;
+    }
+
+    /**
+     * Merges this run's averages into the file
+     */
+    private static void save() {
+        Map<String, long[]> run;
+        synchronized (RUN) {
+            if (RUN.isEmpty()) {
+                return;
+            }
+            run = new HashMap<>(RUN);
+        }
+        try {
+            HistoryFile.update(TIMES_FILE, "Average navigation time per launch profile, backend and URL", times -> {
+                // Entries from before URLs were normalized, keyed with a fixture server's port
+                times.stringPropertyNames().stream()
+                        .filter(key -> key.split("\\|", 3).length < 3)
+                        .forEach(times::remove);
+                run.forEach((key, sumAndCount) -> {
+                    double average = (double) sumAndCount[0] / sumAndCount[1];
+                    long count = sumAndCount[1];
+                    String previous = times.getProperty(key);
+                    if (previous != null) {
+                        String[] parts = previous.split(",");
+                        long previousCount = Long.parseLong(parts[1]);
+                        average = (Double.parseDouble(parts[0]) * previousCount + average * count)
+                                / (previousCount + count);
+                        count += previousCount;
+                    }
+                    times.setProperty(key, String.format(Locale.ROOT, "%.1f,%d", average, count));
+                });
+            });
+        } catch (IOException e) {
+            // History is best effort
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.test.framework.fixture;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * In-process HTTP server for test pages, serving files from the classpath
+ * (e.g. src/test/resources) on an ephemeral localhost port.
+ *
+ * Responses carry an ETag and are revalidated with 304 Not Modified, text
+ * content is gzip compressed when the browser accepts it, and connections are
+ * kept alive. An artificial per-request latency can be injected to simulate a
+ * remote server. Resources are read and compressed once and then served from
+ * memory.
+ *
+ * Use {@link #shared()} for one server per JVM (e.g. per TestNG suite).
+ */
+public class FixtureServer implements AutoCloseable {
+
+    private static final int MIN_GZIP_SIZE = 512;
+    private static FixtureServer shared;
+
+    private final String root;
+    private final ClassLoader loader;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, Optional<Resource>> resources = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+    private volatile long latencyMillis;
+
+    private FixtureServer(String root) throws IOException {
+        this.root = root.isEmpty() || root.endsWith("/") ? root : root + "/";
+        // Resolve resources with the starting thread's loader. Handlers run on executor threads created by
+        // the JDK's HTTP-Dispatcher thread, which doesn't inherit the creator's context class loader (since
+        // JDK 19 it starts with the system loader), while under exec:java the fixtures are on a child loader
+        ClassLoader context = Thread.currentThread().getContextClassLoader();
+        this.loader = context != null ? context : FixtureServer.class.getClassLoader();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fixture-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * Starts a server for the classpath directory {@code root} ("" for the
+     * classpath root)
+     */
+    public static FixtureServer start(String root) {
+        try {
+            return new FixtureServer(root);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot start fixture server", e);
+        }
+    }
+
+    /**
+     * Server for the classpath root, started on first use and stopped when the
+     * JVM exits
+     */
+    public static synchronized FixtureServer shared() {
+        if (shared == null) {
+            FixtureServer server = start("");
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close, "fixture-server-shutdown"));
+            shared = server;
+        }
+        return shared;
+    }
+
+    public String url(String path) {
+        return "http://localhost:" + getPort() + "/" + (path.startsWith("/") ? path.substring(1) : path);
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Delay added before every response, for performance experiments
+     */
+    public void setLatency(Duration latency) {
+        this.latencyMillis = latency.toMillis();
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public long getNotModifiedCount() {
+        return notModified.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try (exchange) {
+            if (latencyMillis > 0) {
+                try {
+                    Thread.sleep(latencyMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            Resource resource = path.contains("..") ? null : lookup(path);
+            if (resource == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            Headers request = exchange.getRequestHeaders();
+            Headers response = exchange.getResponseHeaders();
+            response.set("ETag", resource.etag);
+            // Always revalidate, which turns repeat loads into cheap 304s
+            response.set("Cache-Control", "no-cache");
+            response.set("Vary", "Accept-Encoding");
+
+            if (resource.etag.equals(request.getFirst("If-None-Match"))) {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+
+            String acceptEncoding = request.getFirst("Accept-Encoding");
+            boolean gzip = resource.gzipped != null && acceptEncoding != null && acceptEncoding.contains("gzip");
+            byte[] body = gzip ? resource.gzipped : resource.content;
+            response.set("Content-Type", resource.contentType);
+            if (gzip) {
+                response.set("Content-Encoding", "gzip");
+            }
+
+            if ("HEAD".equals(method)) {
+                response.set("Content-Length", String.valueOf(body.length));
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private Resource lookup(String path) {
+        String name = path.startsWith("/") ? path.substring(1) : path;
+        if (name.isEmpty() || name.endsWith("/")) {
+            name += "index.html";
+        }
+        return resources.computeIfAbsent(name, this::load).orElse(null);
+    }
+
+    private Optional<Resource> load(String name) {
+        try (InputStream in = loader.getResourceAsStream(root + name)) {
+            if (in == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new Resource(in.readAllBytes(), contentType(name)));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String contentType(String name) {
+        String extension = name.substring(name.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        switch (extension) {
+            case "html":
+            case "htm":
+                return "text/html; charset=utf-8";
+            case "css":
+                return "text/css; charset=utf-8";
+            case "js":
+                return "application/javascript; charset=utf-8";
+            case "json":
+                return "application/json; charset=utf-8";
+            case "svg":
+                return "image/svg+xml";
+            case "txt":
+            case "csv":
+                return "text/plain; charset=utf-8";
+            case "png":
+                return "image/png";
+            case "jpg":
+            case "jpeg":
+                return "image/jpeg";
+            case "gif":
+                return "image/gif";
+            default:
+                return "application/octet-stream";
+        }
+    }
+
+    private static final class Resource {
+
+        private final byte[] content;
+        private final byte[] gzipped;
+        private final String contentType;
+        private final String etag;
+
+        Resource(byte[] content, String contentType) throws IOException {
+            this.content = content;
+            this.contentType = contentType;
+            CRC32 crc = new CRC32();
+            crc.update(content);
+            this.etag = "\"" + Long.toHexString(crc.getValue()) + "-" + content.length + "\"";
+            this.gzipped = isCompressible(contentType) && content.length >= MIN_GZIP_SIZE ? gzip(content) : null;
+        }
+
+        private static boolean isCompressible(String contentType) {
+            return contentType.startsWith("text/") || contentType.startsWith("application/javascript")
+                    || contentType.startsWith("application/json") || contentType.startsWith("image/svg");
+        }
+
+        private static byte[] gzip(byte[] content) throws IOException {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(content.length / 3);
+            try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+                out.write(content);
+            }
+            return buffer.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.test.framework.form;
+
+import com.test.framework.locator.LocatorScripts;
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidElementStateException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fills and verifies many form fields in a single browser round trip.
+ *
+ * Values are keyed by locator: a String is typed into text inputs and
+ * textareas or picks the select option with that value or visible text; a
+ * Boolean sets the checked state of a checkbox or radio button. Each field
+ * receives the same input/change events a user edit would fire, so
+ * listeners and framework bindings see the new values. Key events are not
+ * simulated; use sendKeys where a page reacts to individual keystrokes.
+ */
+public class FormFiller {
+
+    private static final String FILL_SCRIPT = String.join("\n",
+            LocatorScripts.FIND_FUNCTION,
+            "var fields = arguments[0], verifyOnly = arguments[1], results = [];",
+            "function fire(e, type) { e.dispatchEvent(new Event(type, { bubbles: true })); }",
+            "function toggle(e) { return e.type === 'checkbox' || e.type === 'radio'; }",
+            "function option(e, value) {",
+            "  for (var i = 0; i < e.options.length; i++) {",
+            "    var o = e.options[i];",
+            "    if (o.value === value || o.text.trim() === value) return o;",
+            "  }",
+            "  return null;",
+            "}",
+            "function read(e) { return toggle(e) ? e.checked : e.value; }",
+            "function matches(e, value) {",
+            "  if (toggle(e)) return e.checked === (value === true || value === 'true');",
+            "  if (e.tagName === 'SELECT') { var o = option(e, value); return o !== null && o.selected; }",
+            "  return e.value === value;",
+            "}",
+            "function write(e, value) {",
+            "  if (e.disabled || e.readOnly) throw new Error('Element is not editable');",
+            "  if (toggle(e)) {",
+            "    var checked = value === true || value === 'true';",
+            "    if (e.checked === checked) return;",
+            // A click runs the page's own handlers and fires input/change; radios can't be unchecked by clicking
+            "    if (checked || e.type === 'checkbox') { e.click(); } else { e.checked = false; fire(e, 'change'); }",
+            "    return;",
+            "  }",
+            "  if (e.tagName === 'SELECT') {",
+            "    var o = option(e, value);",
+            "    if (!o) throw new Error('No option ' + value);",
+            "    o.selected = true;",
+            "  } else {",
+            // The native setter keeps frameworks that wrap the value property (e.g. React) in sync
+            "    var proto = Object.getPrototypeOf(e), desc = proto && Object.getOwnPropertyDescriptor(proto, 'value');",
+            "    if (desc && desc.set) { desc.set.call(e, value); } else { e.value = value; }",
+            "  }",
+            "  fire(e, 'input');",
+            "  fire(e, 'change');",
+            "}",
+            "for (var i = 0; i < fields.length; i++) {",
+            "  var q = fields[i][0], value = fields[i][1], e;",
+            "  try {",
+            "    e = q[0] === 'element' ? q[1] : find(q[0], q[1])[0];",
+            "    if (!e) { results.push({ missing: true }); continue; }",
+            "    if (!verifyOnly) write(e, value);",
+            "    results.push({ matches: matches(e, value), actual: read(e) });",
+            "  } catch (err) {",
+            "    results.push({ error: String(err.message || err) });",
+            "  }",
+            "}",
+            "return results;");
+
+    private final WebDriver driver;
+
+    public FormFiller(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Applies every value in map order.
+     *
+     * @throws NoSuchElementException naming every locator that matched nothing
+     * @throws InvalidElementStateException naming fields that could not be set
+     *                                      (disabled, read-only, unknown option)
+     */
+    public void fill(Map<By, ?> values) {
+        List<Map<?, ?>> results = run(values, false);
+        List<By> missing = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+        int i = 0;
+        for (By by : values.keySet()) {
+            Map<?, ?> result = results.get(i++);
+            if (result.containsKey("missing")) {
+                missing.add(by);
+            } else if (result.containsKey("error")) {
+                failed.add(by + ": " + result.get("error"));
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new NoSuchElementException("Unable to locate form fields: " + missing);
+        }
+        if (!failed.isEmpty()) {
+            throw new InvalidElementStateException("Unable to fill form fields: " + failed);
+        }
+    }
+
+    /**
+     * Reads every field back in one call and compares it with the expected
+     * value.
+     *
+     * @return the actual value (String or Boolean) of each field that does not
+     *         match, or null for fields that are missing; empty when the form
+     *         holds every expected value
+     */
+    public Map<By, Object> verify(Map<By, ?> expected) {
+        List<Map<?, ?>> results = run(expected, true);
+        Map<By, Object> mismatches = new LinkedHashMap<>();
+        int i = 0;
+        for (By by : expected.keySet()) {
+            Map<?, ?> result = results.get(i++);
+            if (!Boolean.TRUE.equals(result.get("matches"))) {
+                mismatches.put(by, result.get("actual"));
+            }
+        }
+        return mismatches;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<?, ?>> run(Map<By, ?> values, boolean verifyOnly) {
+        List<List<Object>> fields = new ArrayList<>();
+        values.forEach((by, value) -> {
+            List<Object> query = LocatorScripts.query(by);
+            if (query == null) {
+                // Not resolvable in the page, look it up through the driver instead
+                query = List.of("element", driver.findElement(by));
+            }
+            fields.add(List.of(query, value));
+        });
+        return (List<Map<?, ?>>) ((JavascriptExecutor) driver).executeScript(FILL_SCRIPT, fields, verifyOnly);
+    }
+}
@@ -0,0 +1,14 @@
+package com.test.framework.load;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * One iteration of scripted traffic, e.g. navigate, fill, submit. Each part
+ * that should get its own latency percentiles runs through
+ * {@link StepTimer#step}.
+ */
+@FunctionalInterface
+public interface LoadFlow {
+
+    void run(WebDriver driver, StepTimer steps) throws Exception;
+}
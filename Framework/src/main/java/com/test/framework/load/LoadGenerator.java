@@ -0,0 +1,177 @@
+package com.test.framework.load;
+
+import com.test.framework.pool.DriverPool;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replays a {@link LoadFlow} from several browser sessions at a target rate.
+ *
+ * Iterations are scheduled on an open model: a scheduler thread releases
+ * them at the rate the {@link LoadProfile} asks for at each moment, whether
+ * or not earlier ones have finished. Every session runs on its own thread
+ * and takes the next due iteration. At most one iteration per session can
+ * wait; when more are due than the sessions can absorb they are counted as
+ * missed, so the report shows achieved against target rate instead of
+ * silently slowing down. How late each iteration started is recorded as well.
+ *
+ * Sessions are borrowed from the {@link DriverPool} and launched before the
+ * clock starts, so launch time doesn't count against the ramp-up. A session
+ * that dies during an iteration is replaced.
+ */
+public class LoadGenerator {
+
+    private static final long TICK_MILLIS = 10;
+    private static final int MAX_PRINTED_FAILURES = 10;
+
+    private final DriverPool pool;
+    private final LoadProfile profile;
+    private final AtomicInteger printedFailures = new AtomicInteger();
+    private volatile long startNanos;
+    private volatile boolean scheduling;
+
+    public LoadGenerator(DriverPool pool, LoadProfile profile) {
+        this.pool = pool;
+        this.profile = profile;
+    }
+
+    /**
+     * Runs the whole profile and waits for the last iterations to finish
+     */
+    public LoadResult run(LoadFlow flow) {
+        LoadResult result = new LoadResult(profile);
+        int sessions = profile.getSessions();
+        BlockingQueue<Long> due = new ArrayBlockingQueue<>(sessions);
+        CountDownLatch ready = new CountDownLatch(sessions);
+        scheduling = true;
+
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < sessions; i++) {
+            Thread worker = new Thread(() -> work(flow, result, due, ready), "load-session-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+
+        try {
+            // Launch every browser before the clock starts
+            ready.await();
+            System.out.println("⏱ Sessions ready, starting load: " + profile);
+            startNanos = System.nanoTime();
+            schedule(result, due);
+            scheduling = false;
+            for (Thread worker : workers) {
+                worker.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.forEach(Thread::interrupt);
+        } finally {
+            scheduling = false;
+        }
+        result.setWallNanos(System.nanoTime() - startNanos);
+        return result;
+    }
+
+    /**
+     * Releases iterations at the profile's rate until the run is over
+     */
+    private void schedule(LoadResult result, BlockingQueue<Long> due) throws InterruptedException {
+        long total = profile.getTotalDuration().toMillis();
+        RateCredit credit = new RateCredit(profile);
+        long previous = startNanos;
+        while (true) {
+            Thread.sleep(TICK_MILLIS);
+            long now = System.nanoTime();
+            long elapsedMillis = millisSinceStart(now);
+            if (elapsedMillis >= total) {
+                return;
+            }
+            int iterations = credit.advance(previous - startNanos, now - startNanos);
+            previous = now;
+            for (int i = 0; i < iterations; i++) {
+                result.recordScheduled(elapsedMillis, due.offer(now));
+            }
+        }
+    }
+
+    private void work(LoadFlow flow, LoadResult result, BlockingQueue<Long> due, CountDownLatch ready) {
+        WebDriver driver;
+        try {
+            driver = pool.borrow();
+        } catch (RuntimeException e) {
+            System.out.println("✗ Could not start " + Thread.currentThread().getName() + ": " + e.getMessage());
+            return;
+        } finally {
+            ready.countDown();
+        }
+
+        StepTimer steps = new StepTimer(result);
+        try {
+            while (true) {
+                Long scheduled = due.poll(100, TimeUnit.MILLISECONDS);
+                if (scheduled == null) {
+                    if (!scheduling) {
+                        return;
+                    }
+                    continue;
+                }
+                long started = System.nanoTime();
+                boolean failed = false;
+                try {
+                    flow.run(driver, steps);
+                } catch (Exception | Error e) {
+                    // Errors too: an assertion in the flow fails the iteration, not the session
+                    failed = true;
+                    printFailure(e);
+                    if (!isAlive(driver)) {
+                        pool.invalidate(driver);
+                        driver = null;
+                        driver = pool.borrow();
+                    }
+                }
+                long finished = System.nanoTime();
+                result.recordIteration(millisSinceStart(scheduled), millisSinceStart(finished),
+                        started - scheduled, finished - started, failed);
+            }
+        } catch (InterruptedException e) {
+            // Run aborted
+        } catch (RuntimeException e) {
+            System.out.println("✗ Lost " + Thread.currentThread().getName() + ": " + e.getMessage());
+        } finally {
+            if (driver != null) {
+                pool.release(driver);
+            }
+        }
+    }
+
+    private void printFailure(Throwable e) {
+        int printed = printedFailures.incrementAndGet();
+        if (printed <= MAX_PRINTED_FAILURES) {
+            System.out.println("✗ Load iteration failed on " + Thread.currentThread().getName() + ": " + e);
+        } else if (printed == MAX_PRINTED_FAILURES + 1) {
+            System.out.println("✗ Further failures are only counted");
+        }
+    }
+
+    private long millisSinceStart(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos - startNanos);
+    }
+
+    private static boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+}
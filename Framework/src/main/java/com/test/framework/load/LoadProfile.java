@@ -0,0 +1,134 @@
+package com.test.framework.load;
+
+import java.time.Duration;
+
+/**
+ * Shape of a load run: how many browser sessions generate the load and the
+ * target rate of flow iterations over three phases. The rate climbs linearly
+ * from zero during ramp-up, holds during steady state and falls back to zero
+ * during ramp-down.
+ */
+public class LoadProfile {
+
+    public enum Phase {
+        RAMP_UP, STEADY, RAMP_DOWN
+    }
+
+    private int sessions = 4;
+    private double targetRate = 2.0;
+    private Duration rampUp = Duration.ofSeconds(10);
+    private Duration steady = Duration.ofSeconds(30);
+    private Duration rampDown = Duration.ofSeconds(10);
+
+    /**
+     * -Dload.sessions, -Dload.rate (iterations per second at steady state),
+     * -Dload.rampUpSeconds, -Dload.steadySeconds and -Dload.rampDownSeconds
+     */
+    public static LoadProfile fromSystemProperties() {
+        LoadProfile profile = new LoadProfile();
+        profile.sessions = Integer.getInteger("load.sessions", profile.sessions);
+        profile.targetRate = Double.parseDouble(System.getProperty("load.rate", String.valueOf(profile.targetRate)));
+        profile.rampUp = Duration.ofSeconds(Long.getLong("load.rampUpSeconds", profile.rampUp.getSeconds()));
+        profile.steady = Duration.ofSeconds(Long.getLong("load.steadySeconds", profile.steady.getSeconds()));
+        profile.rampDown = Duration.ofSeconds(Long.getLong("load.rampDownSeconds", profile.rampDown.getSeconds()));
+        return profile;
+    }
+
+    public int getSessions() {
+        return sessions;
+    }
+
+    public LoadProfile setSessions(int sessions) {
+        this.sessions = sessions;
+        return this;
+    }
+
+    /**
+     * Iterations per second during steady state
+     */
+    public double getTargetRate() {
+        return targetRate;
+    }
+
+    public LoadProfile setTargetRate(double targetRate) {
+        this.targetRate = targetRate;
+        return this;
+    }
+
+    public Duration getRampUp() {
+        return rampUp;
+    }
+
+    public LoadProfile setRampUp(Duration rampUp) {
+        this.rampUp = rampUp;
+        return this;
+    }
+
+    public Duration getSteady() {
+        return steady;
+    }
+
+    public LoadProfile setSteady(Duration steady) {
+        this.steady = steady;
+        return this;
+    }
+
+    public Duration getRampDown() {
+        return rampDown;
+    }
+
+    public LoadProfile setRampDown(Duration rampDown) {
+        this.rampDown = rampDown;
+        return this;
+    }
+
+    public Duration getTotalDuration() {
+        return rampUp.plus(steady).plus(rampDown);
+    }
+
+    public Phase phaseAt(long elapsedMillis) {
+        if (elapsedMillis < rampUp.toMillis()) {
+            return Phase.RAMP_UP;
+        }
+        return elapsedMillis < rampUp.plus(steady).toMillis() ? Phase.STEADY : Phase.RAMP_DOWN;
+    }
+
+    /**
+     * Target iterations per second at this point of the run
+     */
+    public double targetRateAt(long elapsedMillis) {
+        long up = rampUp.toMillis();
+        long steadyEnd = up + steady.toMillis();
+        long end = steadyEnd + rampDown.toMillis();
+        if (elapsedMillis < 0 || elapsedMillis >= end) {
+            return 0;
+        }
+        if (elapsedMillis < up) {
+            return targetRate * elapsedMillis / up;
+        }
+        if (elapsedMillis < steadyEnd) {
+            return targetRate;
+        }
+        return targetRate * (end - elapsedMillis) / rampDown.toMillis();
+    }
+
+    /**
+     * Seconds the given phase lasts
+     */
+    public double secondsOf(Phase phase) {
+        switch (phase) {
+            case RAMP_UP:
+                return rampUp.toMillis() / 1000.0;
+            case STEADY:
+                return steady.toMillis() / 1000.0;
+            default:
+                return rampDown.toMillis() / 1000.0;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return sessions + " sessions, " + targetRate + "/s target, " + rampUp.getSeconds() + "s ramp-up, "
+                + steady.getSeconds() + "s steady, " + rampDown.getSeconds() + "s ramp-down";
+    }
+}
@@ -0,0 +1,286 @@
+package com.test.framework.load;
+
+import com.test.framework.load.LoadProfile.Phase;
+import com.test.framework.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * Outcome of a {@link LoadGenerator} run: target against achieved rate per
+ * phase and per second, latency percentiles per step and per iteration, and
+ * how late iterations started compared to their schedule.
+ *
+ * {@link #writeReport(Path)} writes phases.csv, steps.csv, timeline.csv and a
+ * report.html summarizing them.
+ */
+public class LoadResult {
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99};
+
+    private final LoadProfile profile;
+    private final Map<String, StepStats> steps = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<Phase, Counts> phases = new EnumMap<>(Phase.class);
+    private final Map<Long, Counts> timeline = new ConcurrentSkipListMap<>();
+    private final LatencyHistogram iterations = new LatencyHistogram();
+    private final LatencyHistogram startLag = new LatencyHistogram();
+    private volatile long wallNanos;
+
+    LoadResult(LoadProfile profile) {
+        this.profile = profile;
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, new Counts());
+        }
+    }
+
+    void recordScheduled(long elapsedMillis, boolean accepted) {
+        Counts phase = phases.get(profile.phaseAt(elapsedMillis));
+        Counts second = second(elapsedMillis);
+        phase.target.incrementAndGet();
+        second.target.incrementAndGet();
+        if (!accepted) {
+            phase.missed.incrementAndGet();
+            second.missed.incrementAndGet();
+        }
+    }
+
+    /**
+     * @param scheduledMillis when the iteration should have started, which
+     *                        decides its phase
+     * @param finishedMillis  when it ended, which decides its timeline second
+     */
+    void recordIteration(long scheduledMillis, long finishedMillis, long lagNanos, long nanos, boolean failed) {
+        Counts phase = phases.get(profile.phaseAt(scheduledMillis));
+        Counts second = second(finishedMillis);
+        (failed ? phase.failed : phase.completed).incrementAndGet();
+        (failed ? second.failed : second.completed).incrementAndGet();
+        startLag.recordNanos(lagNanos);
+        if (!failed) {
+            iterations.recordNanos(nanos);
+        }
+    }
+
+    void recordStep(String name, long nanos, boolean failed) {
+        StepStats stats = steps.computeIfAbsent(name, n -> new StepStats());
+        if (failed) {
+            stats.errors.incrementAndGet();
+        } else {
+            stats.latency.recordNanos(nanos);
+        }
+    }
+
+    void setWallNanos(long wallNanos) {
+        this.wallNanos = wallNanos;
+    }
+
+    public LoadProfile getProfile() {
+        return profile;
+    }
+
+    public long getTarget() {
+        return sum(c -> c.target.get());
+    }
+
+    public long getCompleted() {
+        return sum(c -> c.completed.get());
+    }
+
+    public long getFailed() {
+        return sum(c -> c.failed.get());
+    }
+
+    /**
+     * Iterations that were due while every session was busy and never ran
+     */
+    public long getMissed() {
+        return sum(c -> c.missed.get());
+    }
+
+    /**
+     * Successful iterations per second among those scheduled in {@code phase}
+     */
+    public double getAchievedRate(Phase phase) {
+        double seconds = profile.secondsOf(phase);
+        return seconds > 0 ? phases.get(phase).completed.get() / seconds : 0;
+    }
+
+    public double getTargetRate(Phase phase) {
+        double seconds = profile.secondsOf(phase);
+        return seconds > 0 ? phases.get(phase).target.get() / seconds : 0;
+    }
+
+    public LatencyHistogram getIterationLatency() {
+        return iterations;
+    }
+
+    public LatencyHistogram getStepLatency(String step) {
+        StepStats stats = steps.get(step);
+        return stats == null ? null : stats.latency;
+    }
+
+    public void print() {
+        System.out.println("📊 Load run: " + profile);
+        System.out.printf(Locale.ROOT, "  %d due, ✓ %d completed, ✗ %d failed, %d missed in %.1f s%n",
+                getTarget(), getCompleted(), getFailed(), getMissed(), wallNanos / 1e9);
+        for (Phase phase : Phase.values()) {
+            System.out.printf(Locale.ROOT, "  %-9s target %6.2f/s  achieved %6.2f/s%n",
+                    phase, getTargetRate(phase), getAchievedRate(phase));
+        }
+        System.out.println("  Latency (ms):");
+        printLatency("(iteration)", iterations, getFailed());
+        printLatency("(start lag)", startLag, 0);
+        for (Map.Entry<String, StepStats> entry : stepEntries()) {
+            printLatency(entry.getKey(), entry.getValue().latency, entry.getValue().errors.get());
+        }
+    }
+
+    /**
+     * Writes the CSV files and report.html into {@code directory}
+     */
+    public void writeReport(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        try (Writer out = Files.newBufferedWriter(directory.resolve("phases.csv"), StandardCharsets.UTF_8)) {
+            out.write("phase,seconds,target,completed,failed,missed,target_rate,achieved_rate\n");
+            for (Phase phase : Phase.values()) {
+                Counts counts = phases.get(phase);
+                out.write(String.format(Locale.ROOT, "%s,%.1f,%d,%d,%d,%d,%.3f,%.3f%n", phase,
+                        profile.secondsOf(phase), counts.target.get(), counts.completed.get(), counts.failed.get(),
+                        counts.missed.get(), getTargetRate(phase), getAchievedRate(phase)));
+            }
+        }
+        try (Writer out = Files.newBufferedWriter(directory.resolve("steps.csv"), StandardCharsets.UTF_8)) {
+            out.write("step,count,errors,p50_ms,p90_ms,p95_ms,p99_ms,max_ms\n");
+            writeStepRow(out, "(iteration)", iterations, getFailed());
+            writeStepRow(out, "(start lag)", startLag, 0);
+            for (Map.Entry<String, StepStats> entry : stepEntries()) {
+                writeStepRow(out, entry.getKey(), entry.getValue().latency, entry.getValue().errors.get());
+            }
+        }
+        try (Writer out = Files.newBufferedWriter(directory.resolve("timeline.csv"), StandardCharsets.UTF_8)) {
+            out.write("second,phase,target_rate,due,completed,failed,missed\n");
+            for (Map.Entry<Long, Counts> entry : timeline.entrySet()) {
+                long second = entry.getKey();
+                Counts counts = entry.getValue();
+                out.write(String.format(Locale.ROOT, "%d,%s,%.3f,%d,%d,%d,%d%n", second,
+                        profile.phaseAt(second * 1000), profile.targetRateAt(second * 1000 + 500),
+                        counts.target.get(), counts.completed.get(), counts.failed.get(), counts.missed.get()));
+            }
+        }
+        Files.writeString(directory.resolve("report.html"), html(), StandardCharsets.UTF_8);
+    }
+
+    private String html() {
+        StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\"><title>Load report</title>\n")
+                .append("<style>body{font-family:sans-serif}table{border-collapse:collapse;margin-bottom:1em}")
+                .append("td,th{border:1px solid #ccc;padding:2px 8px;text-align:right}")
+                .append("td:first-child{text-align:left}</style></head><body>\n")
+                .append("<h1>Load report</h1>\n<p>").append(escape(profile.toString()))
+                .append(String.format(Locale.ROOT, "; %d due, %d completed, %d failed, %d missed in %.1f s</p>%n",
+                        getTarget(), getCompleted(), getFailed(), getMissed(), wallNanos / 1e9));
+
+        html.append("<h2>Phases</h2>\n<table><tr><th>Phase</th><th>Target /s</th><th>Achieved /s</th>")
+                .append("<th>Completed</th><th>Failed</th><th>Missed</th></tr>\n");
+        for (Phase phase : Phase.values()) {
+            Counts counts = phases.get(phase);
+            html.append(String.format(Locale.ROOT,
+                    "<tr><td>%s</td><td>%.2f</td><td>%.2f</td><td>%d</td><td>%d</td><td>%d</td></tr>%n",
+                    phase, getTargetRate(phase), getAchievedRate(phase), counts.completed.get(),
+                    counts.failed.get(), counts.missed.get()));
+        }
+        html.append("</table>\n<h2>Latency (ms)</h2>\n<table><tr><th>Step</th><th>Count</th><th>Errors</th>");
+        for (double percentile : PERCENTILES) {
+            html.append(String.format(Locale.ROOT, "<th>p%.0f</th>", percentile));
+        }
+        html.append("<th>Max</th></tr>\n");
+        appendStepRow(html, "(iteration)", iterations, getFailed());
+        appendStepRow(html, "(start lag)", startLag, 0);
+        for (Map.Entry<String, StepStats> entry : stepEntries()) {
+            appendStepRow(html, entry.getKey(), entry.getValue().latency, entry.getValue().errors.get());
+        }
+        html.append("</table>\n<h2>Timeline</h2>\n<table><tr><th>Second</th><th>Target /s</th><th>Due</th>")
+                .append("<th>Completed</th><th>Failed</th><th>Missed</th></tr>\n");
+        for (Map.Entry<Long, Counts> entry : timeline.entrySet()) {
+            Counts counts = entry.getValue();
+            html.append(String.format(Locale.ROOT,
+                    "<tr><td>%d</td><td>%.2f</td><td>%d</td><td>%d</td><td>%d</td><td>%d</td></tr>%n",
+                    entry.getKey(), profile.targetRateAt(entry.getKey() * 1000 + 500), counts.target.get(),
+                    counts.completed.get(), counts.failed.get(), counts.missed.get()));
+        }
+        return html.append("</table>\n</body></html>\n").toString();
+    }
+
+    private void appendStepRow(StringBuilder html, String name, LatencyHistogram latency, long errors) {
+        html.append("<tr><td>").append(escape(name)).append("</td><td>").append(latency.getCount())
+                .append("</td><td>").append(errors).append("</td>");
+        for (double percentile : PERCENTILES) {
+            html.append(String.format(Locale.ROOT, "<td>%.2f</td>", latency.percentileMicros(percentile) / 1000.0));
+        }
+        html.append(String.format(Locale.ROOT, "<td>%.2f</td></tr>%n", latency.getMaxMicros() / 1000.0));
+    }
+
+    private static void writeStepRow(Writer out, String name, LatencyHistogram latency, long errors)
+            throws IOException {
+        out.write(String.format(Locale.ROOT, "%s,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+                name.contains(",") ? "\"" + name.replace("\"", "\"\"") + "\"" : name, latency.getCount(), errors,
+                latency.percentileMicros(50) / 1000.0, latency.percentileMicros(90) / 1000.0,
+                latency.percentileMicros(95) / 1000.0, latency.percentileMicros(99) / 1000.0,
+                latency.getMaxMicros() / 1000.0));
+    }
+
+    private static void printLatency(String name, LatencyHistogram latency, long errors) {
+        System.out.printf(Locale.ROOT, "    %-14s count=%-6d errors=%-4d p50=%8.2f p95=%8.2f p99=%8.2f max=%8.2f%n",
+                name, latency.getCount(), errors, latency.percentileMicros(50) / 1000.0,
+                latency.percentileMicros(95) / 1000.0, latency.percentileMicros(99) / 1000.0,
+                latency.getMaxMicros() / 1000.0);
+    }
+
+    private List<Map.Entry<String, StepStats>> stepEntries() {
+        synchronized (steps) {
+            return new ArrayList<>(steps.entrySet());
+        }
+    }
+
+    private Counts second(long elapsedMillis) {
+        return timeline.computeIfAbsent(Math.max(0, elapsedMillis) / 1000, s -> new Counts());
+    }
+
+    private long sum(ToLongFunction<Counts> value) {
+        long sum = 0;
+        for (Counts counts : phases.values()) {
+            sum += value.applyAsLong(counts);
+        }
+        return sum;
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    private static final class Counts {
+
+        private final AtomicLong target = new AtomicLong();
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong missed = new AtomicLong();
+    }
+
+    private static final class StepStats {
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final AtomicLong errors = new AtomicLong();
+    }
+}
@@ -0,0 +1,32 @@
+package com.test.framework.load;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turns a {@link LoadProfile}'s target rate into whole iterations per
+ * scheduler tick. The rate is integrated over each tick at its midpoint and
+ * the fraction of an iteration left over is carried into the next tick, so
+ * uneven ticks still add up to the profile's total.
+ */
+public final class RateCredit {
+
+    private final LoadProfile profile;
+    private double credit;
+
+    public RateCredit(LoadProfile profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * @param fromNanos start of the tick, relative to the start of the run
+     * @param toNanos   end of the tick, relative to the start of the run
+     * @return the iterations due in this tick
+     */
+    public int advance(long fromNanos, long toNanos) {
+        long midpointMillis = TimeUnit.NANOSECONDS.toMillis((fromNanos + toNanos) / 2);
+        credit += profile.targetRateAt(midpointMillis) * (toNanos - fromNanos) / 1e9;
+        int due = (int) credit;
+        credit -= due;
+        return due;
+    }
+}
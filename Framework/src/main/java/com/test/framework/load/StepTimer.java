@@ -0,0 +1,34 @@
+package com.test.framework.load;
+
+/**
+ * Times the named steps of one flow iteration into the run's
+ * {@link LoadResult}
+ */
+public final class StepTimer {
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private final LoadResult result;
+
+    StepTimer(LoadResult result) {
+        this.result = result;
+    }
+
+    /**
+     * Runs and times {@code action}; a failure is counted against the step and
+     * rethrown, which ends the iteration
+     */
+    public void step(String name, Action action) throws Exception {
+        long start = System.nanoTime();
+        try {
+            action.run();
+            result.recordStep(name, System.nanoTime() - start, false);
+        } catch (Exception | Error e) {
+            result.recordStep(name, System.nanoTime() - start, true);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.test.framework.locator;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves many locators in a single browser round trip.
+ *
+ * Each {@code driver.findElement} is one wire-protocol call; on a remote grid
+ * with 20-50 ms latency, initializing a page object with dozens of fields costs
+ * seconds. This class sends all locators to one injected script that applies
+ * the same strategies as the browser driver (id, name, class name, tag name,
+ * link text, partial link text, CSS selector and XPath). Locators that are not
+ * {@link By.Remotable} (e.g. ByChained) fall back to a normal lookup.
+ */
+public class BatchLocator {
+
+    private static final String RESOLVE_SCRIPT = String.join("\n",
+            LocatorScripts.FIND_FUNCTION,
+            "var queries = arguments[0], countOnly = arguments[1], results = [];",
+            "for (var q = 0; q < queries.length; q++) {",
+            "  var found;",
+            "  try {",
+            "    found = find(queries[q][0], queries[q][1]);",
+            "  } catch (e) {",
+            "    results.push({ error: String(e.message || e) });",
+            "    continue;",
+            "  }",
+            "  results.push(countOnly ? found.length : Array.prototype.slice.call(found));",
+            "}",
+            "return results;");
+
+    private final WebDriver driver;
+
+    public BatchLocator(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Equivalent of calling {@code driver.findElements(by)} for every locator,
+     * keyed by locator in the given order.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<By, List<WebElement>> findElements(Collection<By> locators) {
+        Map<By, List<WebElement>> found = new LinkedHashMap<>();
+        resolve(locators, false, (by, result) -> found.put(by, (List<WebElement>) result));
+        return found;
+    }
+
+    /**
+     * Equivalent of calling {@code driver.findElement(by)} for every locator.
+     *
+     * @throws NoSuchElementException naming every locator that matched nothing
+     */
+    public Map<By, WebElement> findElement(Collection<By> locators) {
+        Map<By, WebElement> found = new LinkedHashMap<>();
+        List<By> missing = new ArrayList<>();
+        findElements(locators).forEach((by, elements) -> {
+            if (elements.isEmpty()) {
+                missing.add(by);
+            } else {
+                found.put(by, elements.get(0));
+            }
+        });
+        if (!missing.isEmpty()) {
+            throw new NoSuchElementException("Unable to locate elements: " + missing);
+        }
+        return found;
+    }
+
+    /**
+     * Number of matches per locator. Cheaper than {@link #findElements} because
+     * no element references are sent back over the wire.
+     */
+    public Map<By, Integer> count(Collection<By> locators) {
+        Map<By, Integer> counts = new LinkedHashMap<>();
+        resolve(locators, true, (by, result) -> counts.put(by, ((Number) result).intValue()));
+        return counts;
+    }
+
+    private void resolve(Collection<By> locators, boolean countOnly, ResultConsumer consumer) {
+        List<By> scripted = new ArrayList<>();
+        List<List<Object>> queries = new ArrayList<>();
+        for (By by : locators) {
+            List<Object> query = LocatorScripts.query(by);
+            if (query != null) {
+                scripted.add(by);
+                queries.add(query);
+            }
+        }
+
+        List<?> results = scripted.isEmpty()
+                ? List.of()
+                : (List<?>) ((JavascriptExecutor) driver).executeScript(RESOLVE_SCRIPT, queries, countOnly);
+
+        int next = 0;
+        for (By by : locators) {
+            if (!(by instanceof By.Remotable)) {
+                List<WebElement> elements = driver.findElements(by);
+                consumer.accept(by, countOnly ? (Object) elements.size() : elements);
+                continue;
+            }
+            Object result = results.get(next++);
+            if (result instanceof Map) {
+                throw new InvalidSelectorException(((Map<?, ?>) result).get("error") + " (" + by + ")");
+            }
+            consumer.accept(by, result);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResultConsumer {
+        void accept(By by, Object result);
+    }
+}
@@ -0,0 +1,176 @@
+package com.test.framework.locator;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Element handed out by {@link CachingElementFinder}. If the underlying
+ * reference has gone stale, the cache entry is dropped, the element is looked
+ * up again and the call is retried once. Interactions tell the finder the DOM
+ * may have changed.
+ */
+class CachedElement implements WebElement, WrapsElement {
+
+    private final CachingElementFinder finder;
+    private final By by;
+    private final int index;
+    private WebElement delegate;
+
+    CachedElement(CachingElementFinder finder, By by, int index, WebElement delegate) {
+        this.finder = finder;
+        this.by = by;
+        this.index = index;
+        this.delegate = delegate;
+    }
+
+    private <T> T call(Function<WebElement, T> action) {
+        try {
+            return action.apply(delegate);
+        } catch (StaleElementReferenceException e) {
+            delegate = finder.refresh(by, index);
+            return action.apply(delegate);
+        }
+    }
+
+    private void run(Consumer<WebElement> action) {
+        try {
+            call(element -> {
+                action.accept(element);
+                return null;
+            });
+        } finally {
+            finder.interacted();
+        }
+    }
+
+    @Override
+    public WebElement getWrappedElement() {
+        return delegate;
+    }
+
+    @Override
+    public void click() {
+        run(WebElement::click);
+    }
+
+    @Override
+    public void submit() {
+        run(WebElement::submit);
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        run(element -> element.sendKeys(keysToSend));
+    }
+
+    @Override
+    public void clear() {
+        run(WebElement::clear);
+    }
+
+    @Override
+    public String getTagName() {
+        return call(WebElement::getTagName);
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return call(element -> element.getDomProperty(name));
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return call(element -> element.getDomAttribute(name));
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return call(element -> element.getAttribute(name));
+    }
+
+    @Override
+    public String getAriaRole() {
+        return call(WebElement::getAriaRole);
+    }
+
+    @Override
+    public String getAccessibleName() {
+        return call(WebElement::getAccessibleName);
+    }
+
+    @Override
+    public boolean isSelected() {
+        return call(WebElement::isSelected);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return call(WebElement::isEnabled);
+    }
+
+    @Override
+    public String getText() {
+        return call(WebElement::getText);
+    }
+
+    @Override
+    public List<WebElement> findElements(By locator) {
+        return call(element -> element.findElements(locator));
+    }
+
+    @Override
+    public WebElement findElement(By locator) {
+        return call(element -> element.findElement(locator));
+    }
+
+    @Override
+    public SearchContext getShadowRoot() {
+        return call(WebElement::getShadowRoot);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return call(WebElement::isDisplayed);
+    }
+
+    @Override
+    public Point getLocation() {
+        return call(WebElement::getLocation);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return call(WebElement::getSize);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return call(WebElement::getRect);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return call(element -> element.getCssValue(propertyName));
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return call(element -> element.getScreenshotAs(target));
+    }
+
+    @Override
+    public String toString() {
+        return "Cached [" + by + (index >= 0 ? " #" + index : "") + "] -> " + delegate;
+    }
+}
@@ -0,0 +1,300 @@
+package com.test.framework.locator;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Sequence;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Memoizes {@code By -> WebElement} lookups for the current document.
+ *
+ * A miss is one script call that finds the elements and reads the page's DOM
+ * generation counter, a MutationObserver count. A hit costs no browser round
+ * trip unless a command that may have mutated the DOM went through
+ * {@link #getDriver()} or an element of this finder since (click, typing,
+ * submit, script, actions); the counter is then read once and the cache
+ * dropped if it moved. The cache is also dropped when the driver navigates
+ * or switches window or frame. Changes the page makes on its own (timers,
+ * XHR callbacks) aren't watched: an element they removed is found again when
+ * its reference turns out to be stale. The in-JVM backend's engine delivers
+ * no mutation records, so there only navigation and stale references drop
+ * the cache.
+ *
+ * A locator that matches nothing, or one the script can't resolve (e.g.
+ * ByChained), is looked up by the driver as well, so its implicit wait and
+ * exceptions apply, and is not cached.
+ */
+public class CachingElementFinder implements WebDriverListener {
+
+    private static final String GENERATION_FUNCTION = String.join("\n",
+            "function generation() {",
+            "  var s = window.__domGeneration;",
+            "  if (!s) {",
+            "    s = window.__domGeneration = { doc: String(Math.random()), gen: 0 };",
+            "    new MutationObserver(function () { s.gen++; })",
+            "      .observe(document, { subtree: true, childList: true, attributes: true });",
+            "  }",
+            "  return s.doc + ':' + s.gen;",
+            "}");
+    private static final String GENERATION_SCRIPT = GENERATION_FUNCTION + "\nreturn generation();";
+    private static final String FIND_SCRIPT = String.join("\n",
+            LocatorScripts.FIND_FUNCTION,
+            GENERATION_FUNCTION,
+            "var found;",
+            "try {",
+            "  found = Array.prototype.slice.call(find(arguments[0], arguments[1]));",
+            "} catch (e) {",
+            "  found = null;",
+            "}",
+            "return [generation(), found];");
+
+    private final WebDriver rawDriver;
+    private final WebDriver driver;
+    private final Map<By, WebElement> elementCache = new HashMap<>();
+    private final Map<By, List<WebElement>> listCache = new HashMap<>();
+    private String generation;
+    private boolean possiblyMutated;
+    private long hits;
+    private long misses;
+    private long invalidations;
+
+    public CachingElementFinder(WebDriver driver) {
+        this.rawDriver = driver;
+        this.driver = new EventFiringDecorator<>(this).decorate(driver);
+    }
+
+    /**
+     * Driver decorated so that navigation and interactions keep the cache
+     * consistent
+     */
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    public WebElement findElement(By by) {
+        if (isCached(elementCache, by)) {
+            hits++;
+            return elementCache.get(by);
+        }
+        misses++;
+        List<WebElement> found = find(by);
+        if (found == null || found.isEmpty()) {
+            // Throws the driver's exception if the element doesn't turn up within its implicit wait
+            WebElement element = driver.findElement(by);
+            return new CachedElement(this, by, -1, element);
+        }
+        WebElement element = new CachedElement(this, by, -1, found.get(0));
+        elementCache.put(by, element);
+        return element;
+    }
+
+    public List<WebElement> findElements(By by) {
+        if (isCached(listCache, by)) {
+            hits++;
+            return listCache.get(by);
+        }
+        misses++;
+        List<WebElement> found = find(by);
+        boolean cache = found != null && !found.isEmpty();
+        if (!cache) {
+            found = driver.findElements(by);
+        }
+        List<WebElement> elements = new ArrayList<>(found.size());
+        for (int i = 0; i < found.size(); i++) {
+            elements.add(new CachedElement(this, by, i, found.get(i)));
+        }
+        elements = Collections.unmodifiableList(elements);
+        if (cache) {
+            listCache.put(by, elements);
+        }
+        return elements;
+    }
+
+    /**
+     * Drops every cached element
+     */
+    public void invalidate() {
+        if (!elementCache.isEmpty() || !listCache.isEmpty()) {
+            invalidations++;
+        }
+        elementCache.clear();
+        listCache.clear();
+        generation = null;
+        possiblyMutated = false;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getInvalidations() {
+        return invalidations;
+    }
+
+    public double getHitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d hits, %d misses (%.0f%% hit ratio), %d invalidations",
+                hits, misses, getHitRatio() * 100, invalidations);
+    }
+
+    /**
+     * Re-finds an element whose cached reference went stale
+     */
+    WebElement refresh(By by, int index) {
+        elementCache.remove(by);
+        listCache.remove(by);
+        invalidations++;
+        misses++;
+        if (index < 0) {
+            return driver.findElement(by);
+        }
+        List<WebElement> found = driver.findElements(by);
+        if (index >= found.size()) {
+            throw new StaleElementReferenceException("Element " + index + " of " + by + " no longer exists");
+        }
+        return found.get(index);
+    }
+
+    /**
+     * Called by elements of this finder after a command that may mutate the DOM
+     */
+    void interacted() {
+        possiblyMutated = true;
+    }
+
+    private boolean isCached(Map<By, ?> cache, By by) {
+        if (!cache.containsKey(by)) {
+            return false;
+        }
+        if (possiblyMutated) {
+            // Raw driver, so that this script call is not itself reported as a possible mutation
+            updateGeneration(String.valueOf(((JavascriptExecutor) rawDriver).executeScript(GENERATION_SCRIPT)));
+        }
+        return cache.containsKey(by);
+    }
+
+    /**
+     * The elements found by the page script, or null if it can't resolve the
+     * locator; either way the generation is brought up to date
+     */
+    @SuppressWarnings("unchecked")
+    private List<WebElement> find(By by) {
+        List<Object> query = LocatorScripts.query(by);
+        if (query == null) {
+            updateGeneration(String.valueOf(((JavascriptExecutor) rawDriver).executeScript(GENERATION_SCRIPT)));
+            return null;
+        }
+        List<?> result = (List<?>) ((JavascriptExecutor) rawDriver).executeScript(FIND_SCRIPT, query.get(0),
+                query.get(1));
+        updateGeneration(String.valueOf(result.get(0)));
+        return (List<WebElement>) result.get(1);
+    }
+
+    private void updateGeneration(String current) {
+        if (generation != null && !generation.equals(current)) {
+            invalidate();
+        }
+        generation = current;
+        possiblyMutated = false;
+    }
+
+    // Navigation replaces the document
+
+    @Override
+    public void beforeGet(WebDriver driver, String url) {
+        invalidate();
+    }
+
+    @Override
+    public void beforeTo(WebDriver.Navigation navigation, String url) {
+        invalidate();
+    }
+
+    @Override
+    public void beforeTo(WebDriver.Navigation navigation, URL url) {
+        invalidate();
+    }
+
+    @Override
+    public void beforeBack(WebDriver.Navigation navigation) {
+        invalidate();
+    }
+
+    @Override
+    public void beforeForward(WebDriver.Navigation navigation) {
+        invalidate();
+    }
+
+    @Override
+    public void beforeRefresh(WebDriver.Navigation navigation) {
+        invalidate();
+    }
+
+    // A window or frame switch changes the document lookups run in
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        if (target instanceof WebDriver.TargetLocator) {
+            invalidate();
+        }
+    }
+
+    // Interactions may mutate the DOM or navigate, so re-check the generation on the next hit
+
+    @Override
+    public void afterClick(WebElement element) {
+        possiblyMutated = true;
+    }
+
+    @Override
+    public void afterSubmit(WebElement element) {
+        possiblyMutated = true;
+    }
+
+    @Override
+    public void afterSendKeys(WebElement element, CharSequence... keysToSend) {
+        possiblyMutated = true;
+    }
+
+    @Override
+    public void afterClear(WebElement element) {
+        possiblyMutated = true;
+    }
+
+    @Override
+    public void afterExecuteScript(WebDriver driver, String script, Object[] args, Object result) {
+        possiblyMutated = true;
+    }
+
+    @Override
+    public void afterExecuteAsyncScript(WebDriver driver, String script, Object[] args, Object result) {
+        possiblyMutated = true;
+    }
+
+    @Override
+    public void afterPerform(WebDriver driver, Collection<Sequence> actions) {
+        possiblyMutated = true;
+    }
+}
@@ -0,0 +1,253 @@
+package com.test.framework.locator;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Finds the locators written as {@code By.xxx("literal")} in Java sources,
+ * classifies them by {@link LocatorCost} and proposes a faster equivalent
+ * where {@link XPathToCss} has one.
+ *
+ * Run with:
+ *   mvn -pl Framework org.codehaus.mojo:exec-maven-plugin:3.1.0:java
+ *       -Dexec.mainClass=com.test.framework.locator.LocatorAnalyzer
+ *       -Dexec.args="Locator/src/main/java testng/src/test/java"
+ *
+ * Locators built from variables or concatenation are not seen. A literal
+ * Selenium rejects, like {@code By.className("a b")}, is reported as an
+ * invalid finding.
+ */
+public class LocatorAnalyzer {
+
+    private static final Pattern LOCATOR = Pattern.compile(
+            "By\\.(id|name|className|tagName|cssSelector|xpath|linkText|partialLinkText)"
+                    + "\\(\\s*\"((?:[^\"\\\\]|\\\\.)*)\"\\s*\\)");
+
+    /**
+     * A locator literal and where it was found
+     */
+    public static final class Finding {
+
+        private final Path file;
+        private final int line;
+        private final String locator;
+        private final By by;
+        private final LocatorCost cost;
+        private final By suggestion;
+        private final String problem;
+
+        Finding(Path file, int line, By by) {
+            this.file = file;
+            this.line = line;
+            this.locator = by.toString();
+            this.by = by;
+            this.cost = LocatorCost.of(by);
+            this.suggestion = XPathToCss.rewrite(by);
+            this.problem = null;
+        }
+
+        Finding(Path file, int line, String locator, String problem) {
+            this.file = file;
+            this.line = line;
+            this.locator = locator;
+            this.by = null;
+            this.cost = null;
+            this.suggestion = null;
+            this.problem = problem;
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        /**
+         * @return the locator, or null if Selenium rejects it
+         */
+        public By getBy() {
+            return by;
+        }
+
+        /**
+         * @return the expected cost, or null for an invalid locator
+         */
+        public LocatorCost getCost() {
+            return cost;
+        }
+
+        /**
+         * @return a cheaper locator selecting the same elements, or null
+         */
+        public By getSuggestion() {
+            return suggestion;
+        }
+
+        /**
+         * @return why Selenium rejects the locator, or null for a valid one
+         */
+        public String getProblem() {
+            return problem;
+        }
+
+        @Override
+        public String toString() {
+            if (problem != null) {
+                return file + ":" + line + " [INVALID] " + locator + ": " + problem;
+            }
+            return file + ":" + line + " [" + cost + "] " + by
+                    + (suggestion != null ? " -> " + suggestion + " [" + LocatorCost.of(suggestion) + "]" : "");
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<Path> roots = new ArrayList<>();
+        for (String arg : args.length > 0 ? args : new String[]{"src"}) {
+            roots.add(Paths.get(arg));
+        }
+        print(analyze(roots));
+    }
+
+    /**
+     * Scans every .java file under the given files or directories
+     */
+    public static List<Finding> analyze(List<Path> roots) throws IOException {
+        List<Finding> findings = new ArrayList<>();
+        for (Path root : roots) {
+            List<Path> files;
+            try (Stream<Path> walk = Files.walk(root)) {
+                files = walk.filter(p -> p.toString().endsWith(".java")).sorted().collect(Collectors.toList());
+            }
+            for (Path file : files) {
+                findings.addAll(analyze(file, Files.readString(file, StandardCharsets.UTF_8)));
+            }
+        }
+        return findings;
+    }
+
+    /**
+     * Scans one source file's text
+     */
+    public static List<Finding> analyze(Path file, String source) {
+        List<Finding> findings = new ArrayList<>();
+        Matcher matcher = LOCATOR.matcher(source);
+        while (matcher.find()) {
+            String method = matcher.group(1);
+            String value = unescape(matcher.group(2));
+            int line = lineOf(source, matcher.start());
+            try {
+                findings.add(new Finding(file, line, create(method, value)));
+            } catch (InvalidSelectorException e) {
+                // Report it and carry on with the rest of the sources
+                findings.add(new Finding(file, line, "By." + method + ": " + value, e.getRawMessage()));
+            } catch (IllegalArgumentException e) {
+                findings.add(new Finding(file, line, "By." + method + ": " + value, e.getMessage()));
+            }
+        }
+        return findings;
+    }
+
+    /**
+     * Prints invalid findings, then the rest most expensive first, then the
+     * count per cost tier
+     */
+    public static void print(List<Finding> findings) {
+        List<Finding> sorted = new ArrayList<>(findings);
+        // Invalid findings have no cost and come first
+        Comparator<LocatorCost> byCost = Comparator.nullsLast(Comparator.naturalOrder());
+        sorted.sort(Comparator.comparing(Finding::getCost, byCost).reversed()
+                .thenComparing(f -> f.getFile().toString())
+                .thenComparingInt(Finding::getLine));
+        Map<LocatorCost, Integer> counts = new EnumMap<>(LocatorCost.class);
+        int rewritable = 0;
+        int invalid = 0;
+        System.out.println("🧩 Locators by expected cost:");
+        for (Finding finding : sorted) {
+            if (finding.getProblem() != null) {
+                invalid++;
+                System.out.println("  ✗ " + finding);
+                continue;
+            }
+            counts.merge(finding.getCost(), 1, Integer::sum);
+            if (finding.getSuggestion() != null) {
+                rewritable++;
+            }
+            System.out.println("  " + finding);
+        }
+        System.out.println("📊 " + sorted.size() + " locators, " + rewritable + " with a faster equivalent"
+                + (invalid > 0 ? ", " + invalid + " invalid" : ""));
+        counts.forEach((cost, count) -> System.out.printf("  %-10s %d%n", cost, count));
+    }
+
+    private static By create(String method, String value) {
+        switch (method) {
+            case "id":
+                return By.id(value);
+            case "name":
+                return By.name(value);
+            case "className":
+                return By.className(value);
+            case "tagName":
+                return By.tagName(value);
+            case "cssSelector":
+                return By.cssSelector(value);
+            case "xpath":
+                return By.xpath(value);
+            case "linkText":
+                return By.linkText(value);
+            default:
+                return By.partialLinkText(value);
+        }
+    }
+
+    private static String unescape(String literal) {
+        StringBuilder value = new StringBuilder(literal.length());
+        for (int i = 0; i < literal.length(); i++) {
+            char c = literal.charAt(i);
+            if (c == '\\' && i + 1 < literal.length()) {
+                char next = literal.charAt(++i);
+                switch (next) {
+                    case 'n':
+                        value.append('\n');
+                        break;
+                    case 't':
+                        value.append('\t');
+                        break;
+                    default:
+                        // \" \' and \\
+                        value.append(next);
+                }
+            } else {
+                value.append(c);
+            }
+        }
+        return value.toString();
+    }
+
+    private static int lineOf(String source, int offset) {
+        int line = 1;
+        for (int i = 0; i < offset; i++) {
+            if (source.charAt(i) == '\n') {
+                line++;
+            }
+        }
+        return line;
+    }
+}
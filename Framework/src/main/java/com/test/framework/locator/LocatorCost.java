@@ -0,0 +1,82 @@
+package com.test.framework.locator;
+
+import org.openqa.selenium.By;
+
+import java.util.regex.Pattern;
+
+/**
+ * Expected lookup cost of a locator, cheapest first.
+ *
+ * ID resolves through the document's id index. SIMPLE (name, class name,
+ * tag name) and CSS run in the browser's native selector engine. Link text
+ * is matched by a script over every anchor. XPath is evaluated by a
+ * separate, slower engine; matching on text walks every text node, and
+ * reverse or sibling axes can revisit large parts of the tree per
+ * candidate. COMPOSITE covers chained and relative locators, which take
+ * several lookups.
+ */
+public enum LocatorCost {
+
+    ID,
+    SIMPLE,
+    CSS,
+    LINK_TEXT,
+    XPATH,
+    XPATH_TEXT,
+    XPATH_AXIS,
+    COMPOSITE;
+
+    private static final Pattern TEXT = Pattern.compile("text\\(\\)|normalize-space\\(\\s*\\)|\\.\\s*[=,)]|string\\(\\s*\\)");
+    private static final Pattern AXIS = Pattern.compile("::|\\.\\.");
+
+    public static LocatorCost of(By by) {
+        String[] locator = split(by);
+        if (locator == null) {
+            return COMPOSITE;
+        }
+        switch (locator[0]) {
+            case "id":
+                return ID;
+            case "name":
+            case "className":
+            case "tagName":
+                return SIMPLE;
+            case "cssSelector":
+                return CSS;
+            case "linkText":
+            case "partialLinkText":
+                return LINK_TEXT;
+            case "xpath":
+                return ofXPath(locator[1]);
+            default:
+                return COMPOSITE;
+        }
+    }
+
+    static LocatorCost ofXPath(String xpath) {
+        if (AXIS.matcher(xpath).find()) {
+            return XPATH_AXIS;
+        }
+        if (TEXT.matcher(xpath).find()) {
+            return XPATH_TEXT;
+        }
+        return XPATH;
+    }
+
+    /**
+     * Splits the standard locators into {@code [strategy, value]}, with the
+     * strategy named after its By factory method (e.g. "xpath", "className").
+     * Null for chained, relative and custom locators.
+     */
+    static String[] split(By by) {
+        String text = by.toString();
+        if (!text.startsWith("By.")) {
+            return null;
+        }
+        int colon = text.indexOf(": ");
+        if (colon < 0) {
+            return null;
+        }
+        return new String[]{text.substring(3, colon), text.substring(colon + 2)};
+    }
+}
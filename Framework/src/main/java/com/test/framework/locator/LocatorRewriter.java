@@ -0,0 +1,210 @@
+package com.test.framework.locator;
+
+import com.test.framework.metrics.LatencyHistogram;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replaces XPath locators passed to {@code driver.findElement(s)} with the
+ * faster equivalent from {@link XPathToCss}, selected with
+ * -Dlocator.rewrite=off|apply|measure (default off).
+ *
+ * APPLY sends the rewritten locator instead of the original, trusting the
+ * conversion without checking it: turn it on only once a MEASURE run over the
+ * same suite reported no mismatches. MEASURE runs both, alternating which
+ * goes first, records their latencies and returns the original's result; a
+ * rewrite that ever finds different elements is reported and dropped for the
+ * rest of the run. {@link #printSummary()} shows the before/after cost of
+ * each rewrite.
+ *
+ * Lookups scoped to an element are left alone: an XPath starting with //
+ * searches the whole document even from an element, a CSS selector doesn't.
+ * Apply this decorator to the raw driver, so other decorators on top of it
+ * see the locators as written.
+ */
+public class LocatorRewriter extends WebDriverDecorator<WebDriver> {
+
+    public enum Mode {
+        OFF,
+        APPLY,
+        MEASURE;
+
+        public static Mode fromSystemProperties() {
+            return valueOf(System.getProperty("locator.rewrite", "off").trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private static final Map<By, Optional<By>> REWRITES = new ConcurrentHashMap<>();
+    private static final Map<String, Stats> STATS = new ConcurrentHashMap<>();
+
+    private final Mode mode;
+    private final AtomicLong calls = new AtomicLong();
+
+    public LocatorRewriter(Mode mode) {
+        this.mode = mode;
+    }
+
+    @Override
+    public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+        By rewritten = mode == Mode.OFF ? null : rewriteFor(target, method, args);
+        if (rewritten == null) {
+            return super.call(target, method, args);
+        }
+        Object[] rewrittenArgs = {rewritten};
+        if (mode == Mode.APPLY) {
+            return super.call(target, method, rewrittenArgs);
+        }
+
+        By original = (By) args[0];
+        Stats stats = STATS.computeIfAbsent(original.toString(), k -> new Stats(rewritten));
+        Object driver = target.getOriginal();
+        // Alternate the order so neither side always runs on a warmed-up page
+        Outcome before;
+        Outcome after;
+        if (calls.getAndIncrement() % 2 == 0) {
+            before = Outcome.of(driver, method, args);
+            after = Outcome.of(driver, method, rewrittenArgs);
+        } else {
+            after = Outcome.of(driver, method, rewrittenArgs);
+            before = Outcome.of(driver, method, args);
+        }
+        stats.originalLatency.recordNanos(before.nanos);
+        stats.rewrittenLatency.recordNanos(after.nanos);
+        if (!before.sameAs(after)) {
+            stats.mismatches.incrementAndGet();
+            REWRITES.put(original, Optional.empty());
+            System.out.println("✗ " + rewritten + " found different elements than " + original
+                    + ", no longer rewriting it");
+        }
+        return decorate(before.value());
+    }
+
+    /**
+     * Prints each measured rewrite with its original and rewritten latency
+     * percentiles; nothing if no rewrite was measured
+     */
+    public static void printSummary() {
+        if (STATS.isEmpty()) {
+            return;
+        }
+        System.out.println("🧩 Locator rewrites (ms, original -> rewritten):");
+        new TreeMap<>(STATS).forEach((original, stats) -> {
+            LatencyHistogram before = stats.originalLatency;
+            LatencyHistogram after = stats.rewrittenLatency;
+            double p50Before = before.percentileMicros(50) / 1000.0;
+            double p50After = after.percentileMicros(50) / 1000.0;
+            System.out.printf(Locale.ROOT, "  %s%n    -> %s%n    count=%-5d p50=%.2f -> %.2f p95=%.2f -> %.2f "
+                            + "speedup=%.1fx%s%n",
+                    original, stats.rewritten, before.getCount(), p50Before, p50After,
+                    before.percentileMicros(95) / 1000.0, after.percentileMicros(95) / 1000.0,
+                    p50After > 0 ? p50Before / p50After : 1.0,
+                    stats.mismatches.get() > 0 ? " ✗ " + stats.mismatches.get() + " mismatches" : "");
+        });
+    }
+
+    public static void reset() {
+        REWRITES.clear();
+        STATS.clear();
+    }
+
+    private By rewriteFor(Decorated<?> target, Method method, Object[] args) {
+        if (!(target.getOriginal() instanceof WebDriver)
+                || !("findElement".equals(method.getName()) || "findElements".equals(method.getName()))
+                || args == null || args.length != 1 || !(args[0] instanceof By)) {
+            return null;
+        }
+        By original = (By) args[0];
+        return REWRITES.computeIfAbsent(original, by -> {
+            By rewritten = XPathToCss.rewrite(by);
+            if (rewritten != null && mode == Mode.APPLY) {
+                System.out.println("🧩 Rewriting " + by + " -> " + rewritten);
+            }
+            return Optional.ofNullable(rewritten);
+        }).orElse(null);
+    }
+
+    /**
+     * Decorates a lookup result the way the default call would
+     */
+    private Object decorate(Object result) {
+        if (result instanceof WebElement) {
+            return createProxy(createDecorated((WebElement) result), WebElement.class);
+        }
+        if (result instanceof List) {
+            List<Object> decorated = new ArrayList<>();
+            for (Object item : (List<?>) result) {
+                decorated.add(decorate(item));
+            }
+            return decorated;
+        }
+        return result;
+    }
+
+    private static final class Stats {
+
+        private final By rewritten;
+        private final LatencyHistogram originalLatency = new LatencyHistogram();
+        private final LatencyHistogram rewrittenLatency = new LatencyHistogram();
+        private final AtomicInteger mismatches = new AtomicInteger();
+
+        Stats(By rewritten) {
+            this.rewritten = rewritten;
+        }
+    }
+
+    /**
+     * One timed lookup on the undecorated driver: its result or failure
+     */
+    private static final class Outcome {
+
+        private final Object value;
+        private final InvocationTargetException failure;
+        private final long nanos;
+
+        private Outcome(Object value, InvocationTargetException failure, long nanos) {
+            this.value = value;
+            this.failure = failure;
+            this.nanos = nanos;
+        }
+
+        static Outcome of(Object driver, Method method, Object[] args) throws IllegalAccessException {
+            long start = System.nanoTime();
+            try {
+                Object value = method.invoke(driver, args);
+                return new Outcome(value, null, System.nanoTime() - start);
+            } catch (InvocationTargetException e) {
+                return new Outcome(null, e, System.nanoTime() - start);
+            }
+        }
+
+        boolean sameAs(Outcome other) {
+            if (failure != null || other.failure != null) {
+                return failure != null && other.failure != null
+                        && failure.getCause().getClass() == other.failure.getCause().getClass();
+            }
+            return value.equals(other.value);
+        }
+
+        Object value() throws InvocationTargetException {
+            if (failure != null) {
+                throw failure;
+            }
+            return value;
+        }
+    }
+}
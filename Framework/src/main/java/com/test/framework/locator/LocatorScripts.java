@@ -0,0 +1,66 @@
+package com.test.framework.locator;
+
+import org.openqa.selenium.By;
+
+import java.util.List;
+
+/**
+ * Script fragments for resolving locators inside the page, shared by the
+ * classes that do many lookups in one round trip.
+ */
+public final class LocatorScripts {
+
+    /**
+     * Defines {@code find(using, value)}, returning the elements (array-like)
+     * matching a remote locator the way the browser driver would. Throws for
+     * an unknown strategy.
+     */
+    public static final String FIND_FUNCTION = String.join("\n",
+            // CSS.escape is missing in some engines (e.g. the in-JVM backend)
+            "var escape = window.CSS && CSS.escape ? CSS.escape",
+            "  : function (v) { return String(v).replace(/([^\\w-])/g, '\\\\$1'); };",
+            "function attr(name, value) { return '*[' + name + '=\"' + value.replace(/[\"\\\\]/g, '\\\\$&') + '\"]'; }",
+            "function links(text, partial) {",
+            "  var all = document.getElementsByTagName('a'), found = [];",
+            "  for (var i = 0; i < all.length; i++) {",
+            "    var t = (all[i].innerText || all[i].textContent || '').trim();",
+            "    if (partial ? t.indexOf(text) >= 0 : t === text) found.push(all[i]);",
+            "  }",
+            "  return found;",
+            "}",
+            "function xpath(expr) {",
+            "  var snap = document.evaluate(expr, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), found = [];",
+            "  for (var i = 0; i < snap.snapshotLength; i++) {",
+            "    if (snap.snapshotItem(i).nodeType === 1) found.push(snap.snapshotItem(i));",
+            "  }",
+            "  return found;",
+            "}",
+            "function find(using, value) {",
+            "  switch (using) {",
+            "    case 'id': return document.querySelectorAll('#' + escape(value));",
+            "    case 'name': return document.querySelectorAll(attr('name', value));",
+            "    case 'class name': return document.querySelectorAll('.' + escape(value));",
+            "    case 'tag name': return document.getElementsByTagName(value);",
+            "    case 'css selector': return document.querySelectorAll(value);",
+            "    case 'link text': return links(value, false);",
+            "    case 'partial link text': return links(value, true);",
+            "    case 'xpath': return xpath(value);",
+            "    default: throw new Error('Unsupported locator strategy: ' + using);",
+            "  }",
+            "}");
+
+    private LocatorScripts() {
+    }
+
+    /**
+     * The locator as a {@code [using, value]} pair for {@code find}, or null
+     * when it can only be resolved by the driver (e.g. ByChained)
+     */
+    public static List<Object> query(By by) {
+        if (!(by instanceof By.Remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters params = ((By.Remotable) by).getRemoteParameters();
+        return List.of(params.using(), String.valueOf(params.value()));
+    }
+}
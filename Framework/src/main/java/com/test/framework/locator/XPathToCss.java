@@ -0,0 +1,257 @@
+package com.test.framework.locator;
+
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites XPath locators to equivalent CSS selectors where the two select
+ * exactly the same elements.
+ *
+ * Handled: absolute paths of child ({@code /}) and descendant ({@code //})
+ * steps with a tag name or {@code *}, and predicates that test attributes
+ * ({@code @a}, {@code @a='v'}, {@code contains(@a,'v')},
+ * {@code starts-with(@a,'v')}, joined with {@code and}) or position
+ * ({@code [n]} and {@code [last()]} as the first predicate of a step). Text
+ * matching, other axes, functions and grouped expressions have no CSS
+ * equivalent and are left alone, as are value tests on the attributes whose
+ * values CSS matches case-insensitively in HTML documents (type, lang, rel,
+ * method, ...) while XPath compares them exactly.
+ */
+public final class XPathToCss {
+
+    private static final Pattern NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_.-]*");
+    private static final Pattern IDENT = Pattern.compile("-?[A-Za-z_][A-Za-z0-9_-]*");
+    private static final Pattern ATTRIBUTE = Pattern.compile("@([A-Za-z_][A-Za-z0-9_.-]*)");
+    private static final Pattern ATTRIBUTE_EQUALS =
+            Pattern.compile("@([A-Za-z_][A-Za-z0-9_.-]*)\\s*=\\s*('[^']*'|\"[^\"]*\")");
+    private static final Pattern ATTRIBUTE_FUNCTION = Pattern.compile(
+            "(contains|starts-with)\\(\\s*@([A-Za-z_][A-Za-z0-9_.-]*)\\s*,\\s*('[^']*'|\"[^\"]*\")\\s*\\)");
+    private static final Pattern POSITION = Pattern.compile("[1-9][0-9]*");
+    private static final Pattern ID_ONLY = Pattern.compile("#(-?[A-Za-z_][A-Za-z0-9_-]*)");
+    private static final Pattern NAME_ONLY = Pattern.compile("\\[name=\"([^\"\\\\]*)\"\\]");
+    private static final Pattern HAS_LETTER = Pattern.compile(".*[A-Za-z].*", Pattern.DOTALL);
+    // HTML attributes whose values selectors match ASCII case-insensitively, per the HTML standard
+    private static final Set<String> CASE_INSENSITIVE_VALUES = Set.of(
+            "accept", "accept-charset", "align", "alink", "axis", "bgcolor", "charset", "checked", "clear",
+            "codetype", "color", "compact", "declare", "defer", "dir", "direction", "disabled", "enctype", "face",
+            "frame", "hreflang", "http-equiv", "lang", "language", "link", "media", "method", "multiple",
+            "nohref", "noresize", "noshade", "nowrap", "readonly", "rel", "rev", "rules", "scope", "scrolling",
+            "selected", "shape", "target", "text", "type", "valign", "valuetype", "vlink");
+
+    private XPathToCss() {
+    }
+
+    /**
+     * @return the equivalent CSS selector, or null if there is none
+     */
+    public static String convert(String xpath) {
+        String path = xpath.trim();
+        if (!path.startsWith("/")) {
+            // Relative paths and grouped expressions like (//tr)[2]
+            return null;
+        }
+        StringBuilder css = new StringBuilder();
+        int i = 0;
+        boolean first = true;
+        while (i < path.length()) {
+            String combinator;
+            boolean root = false;
+            if (path.startsWith("//", i)) {
+                combinator = " ";
+                i += 2;
+            } else if (path.charAt(i) == '/') {
+                combinator = " > ";
+                root = first;
+                i += 1;
+            } else {
+                return null;
+            }
+
+            String element;
+            Matcher name = NAME.matcher(path).region(i, path.length());
+            if (path.startsWith("*", i)) {
+                element = "*";
+                i += 1;
+            } else if (name.lookingAt()) {
+                element = name.group();
+                i = name.end();
+            } else {
+                return null;
+            }
+            if (i < path.length() && (path.charAt(i) == '(' || path.charAt(i) == ':')) {
+                // Functions like text() or node() and axes like following-sibling::
+                return null;
+            }
+
+            StringBuilder step = new StringBuilder();
+            boolean firstPredicate = true;
+            while (i < path.length() && path.charAt(i) == '[') {
+                int end = closingBracket(path, i);
+                if (end < 0) {
+                    return null;
+                }
+                String predicate = convertPredicate(path.substring(i + 1, end).trim(), element, firstPredicate);
+                if (predicate == null) {
+                    return null;
+                }
+                step.append(predicate);
+                firstPredicate = false;
+                i = end + 1;
+            }
+
+            if (!first) {
+                css.append(combinator);
+            }
+            // '*' is only needed when nothing else qualifies the step
+            css.append("*".equals(element) && step.length() > 0 ? "" : element);
+            css.append(step);
+            if (root) {
+                css.append(":root");
+            }
+            first = false;
+        }
+        return css.length() == 0 ? null : css.toString();
+    }
+
+    /**
+     * Fastest equivalent of an XPath locator: By.id or By.name where the
+     * selector allows it, otherwise By.cssSelector. Null for anything that
+     * isn't a convertible XPath.
+     */
+    public static By rewrite(By by) {
+        String[] locator = LocatorCost.split(by);
+        if (locator == null || !"xpath".equals(locator[0])) {
+            return null;
+        }
+        String css = convert(locator[1]);
+        if (css == null) {
+            return null;
+        }
+        Matcher id = ID_ONLY.matcher(css);
+        if (id.matches()) {
+            return By.id(id.group(1));
+        }
+        Matcher name = NAME_ONLY.matcher(css);
+        if (name.matches()) {
+            return By.name(name.group(1));
+        }
+        return By.cssSelector(css);
+    }
+
+    private static String convertPredicate(String predicate, String element, boolean firstPredicate) {
+        boolean any = "*".equals(element);
+        // A position after a filter counts among the filtered elements, which CSS can't express
+        if (POSITION.matcher(predicate).matches()) {
+            return firstPredicate ? (any ? ":nth-child(" : ":nth-of-type(") + predicate + ")" : null;
+        }
+        if ("last()".equals(predicate)) {
+            return firstPredicate ? (any ? ":last-child" : ":last-of-type") : null;
+        }
+        StringBuilder css = new StringBuilder();
+        for (String condition : splitAnd(predicate)) {
+            String converted = convertCondition(condition.trim());
+            if (converted == null) {
+                return null;
+            }
+            css.append(converted);
+        }
+        return css.toString();
+    }
+
+    private static String convertCondition(String condition) {
+        Matcher equals = ATTRIBUTE_EQUALS.matcher(condition);
+        if (equals.matches()) {
+            String attribute = equals.group(1);
+            String value = unquote(equals.group(2));
+            if (!sameCase(attribute, value)) {
+                return null;
+            }
+            if ("id".equals(attribute) && IDENT.matcher(value).matches()) {
+                return "#" + value;
+            }
+            return "[" + attribute + "=" + quote(value) + "]";
+        }
+        Matcher function = ATTRIBUTE_FUNCTION.matcher(condition);
+        if (function.matches()) {
+            String value = unquote(function.group(3));
+            if (value.isEmpty()) {
+                // contains(@a,'') is true for any @a, [a*=""] matches nothing
+                return "[" + function.group(2) + "]";
+            }
+            if (!sameCase(function.group(2), value)) {
+                return null;
+            }
+            String operator = "contains".equals(function.group(1)) ? "*=" : "^=";
+            return "[" + function.group(2) + operator + quote(value) + "]";
+        }
+        Matcher present = ATTRIBUTE.matcher(condition);
+        if (present.matches()) {
+            return "[" + present.group(1) + "]";
+        }
+        return null;
+    }
+
+    /**
+     * Whether CSS compares this attribute value as exactly as XPath does
+     */
+    private static boolean sameCase(String attribute, String value) {
+        return !CASE_INSENSITIVE_VALUES.contains(attribute.toLowerCase(Locale.ROOT))
+                || !HAS_LETTER.matcher(value).matches();
+    }
+
+    private static List<String> splitAnd(String predicate) {
+        List<String> parts = new ArrayList<>();
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < predicate.length(); i++) {
+            char c = predicate.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (predicate.startsWith(" and ", i)) {
+                parts.add(predicate.substring(start, i));
+                start = i + 5;
+                i += 4;
+            }
+        }
+        parts.add(predicate.substring(start));
+        return parts;
+    }
+
+    private static int closingBracket(String path, int open) {
+        char quote = 0;
+        for (int i = open + 1; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[') {
+                // Nested predicates have no CSS equivalent
+                return -1;
+            } else if (c == ']') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String unquote(String literal) {
+        return literal.substring(1, literal.length() - 1);
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
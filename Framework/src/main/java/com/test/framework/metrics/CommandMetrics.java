@@ -0,0 +1,133 @@
+package com.test.framework.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of WebDriver command latencies, one histogram per
+ * command, locator strategy and test method.
+ *
+ * The test name is taken from a thread-local set by the test harness (see
+ * {@link #setCurrentTest(String)}), so parallel tests are attributed
+ * correctly.
+ */
+public final class CommandMetrics {
+
+    private static final Map<Key, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> CURRENT_TEST = new ThreadLocal<>();
+
+    private CommandMetrics() {
+    }
+
+    public static void setCurrentTest(String testName) {
+        if (testName == null) {
+            CURRENT_TEST.remove();
+        } else {
+            CURRENT_TEST.set(testName);
+        }
+    }
+
+    public static void record(String command, String strategy, long nanos) {
+        String test = CURRENT_TEST.get();
+        Key key = new Key(command, strategy == null ? "-" : strategy, test == null ? "-" : test);
+        HISTOGRAMS.computeIfAbsent(key, k -> new LatencyHistogram()).recordNanos(nanos);
+    }
+
+    public static void reset() {
+        HISTOGRAMS.clear();
+    }
+
+    /**
+     * Writes one CSV row per histogram with count and p50/p95/p99/max in
+     * milliseconds
+     */
+    public static void writeReport(Path file) throws IOException {
+        List<Map.Entry<Key, LatencyHistogram>> entries = new ArrayList<>(HISTOGRAMS.entrySet());
+        entries.sort(Map.Entry.comparingByKey());
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("test,command,strategy,count,p50_ms,p95_ms,p99_ms,max_ms\n");
+            for (Map.Entry<Key, LatencyHistogram> entry : entries) {
+                Key key = entry.getKey();
+                LatencyHistogram histogram = entry.getValue();
+                out.write(String.format(Locale.ROOT, "%s,%s,%s,%d,%.3f,%.3f,%.3f,%.3f%n",
+                        csv(key.test), key.command, csv(key.strategy), histogram.getCount(),
+                        histogram.percentileMicros(50) / 1000.0, histogram.percentileMicros(95) / 1000.0,
+                        histogram.percentileMicros(99) / 1000.0, histogram.getMaxMicros() / 1000.0));
+            }
+        }
+    }
+
+    /**
+     * Prints per-command percentiles aggregated over all tests and strategies
+     */
+    public static void printSummary() {
+        Map<String, LatencyHistogram> byCommand = new TreeMap<>();
+        HISTOGRAMS.forEach((key, histogram) -> byCommand.merge(key.command, histogram, CommandMetrics::merge));
+        System.out.println("Command latency (ms):");
+        byCommand.forEach((command, histogram) -> System.out.printf(Locale.ROOT,
+                "  %-16s count=%-5d p50=%8.2f p95=%8.2f p99=%8.2f max=%8.2f%n",
+                command, histogram.getCount(), histogram.percentileMicros(50) / 1000.0,
+                histogram.percentileMicros(95) / 1000.0, histogram.percentileMicros(99) / 1000.0,
+                histogram.getMaxMicros() / 1000.0));
+    }
+
+    private static LatencyHistogram merge(LatencyHistogram a, LatencyHistogram b) {
+        LatencyHistogram merged = new LatencyHistogram();
+        merged.add(a);
+        merged.add(b);
+        return merged;
+    }
+
+    private static String csv(String value) {
+        return value.contains(",") || value.contains("\"") ? "\"" + value.replace("\"", "\"\"") + "\"" : value;
+    }
+
+    private static final class Key implements Comparable<Key> {
+
+        private final String command;
+        private final String strategy;
+        private final String test;
+
+        Key(String command, String strategy, String test) {
+            this.command = command;
+            this.strategy = strategy;
+            this.test = test;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return command.equals(other.command) && strategy.equals(other.strategy) && test.equals(other.test);
+        }
+
+        @Override
+        public int hashCode() {
+            return (command.hashCode() * 31 + strategy.hashCode()) * 31 + test.hashCode();
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            int byTest = test.compareTo(other.test);
+            if (byTest != 0) {
+                return byTest;
+            }
+            int byCommand = command.compareTo(other.command);
+            return byCommand != 0 ? byCommand : strategy.compareTo(other.strategy);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.test.framework.metrics;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Records the latency of every WebDriver, WebElement and navigation command
+ * into {@link CommandMetrics}. Find commands are tagged with the locator
+ * strategy (id, css selector, xpath, ...).
+ *
+ * The per-call cost is two {@link System#nanoTime()} reads and a lock-free
+ * histogram update, so it can stay enabled in regular runs.
+ */
+public class CommandTimingListener implements WebDriverListener {
+
+    // Calls can nest (e.g. element.findElement inside a driver call), so keep a stack per thread
+    private static final ThreadLocal<long[]> STACK = ThreadLocal.withInitial(() -> new long[17]);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        long[] stack = STACK.get();
+        int depth = (int) stack[0];
+        if (depth < stack.length - 1) {
+            stack[depth + 1] = System.nanoTime();
+        }
+        stack[0] = depth + 1;
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method, args);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method, args);
+    }
+
+    private static void finish(Method method, Object[] args) {
+        long end = System.nanoTime();
+        long[] stack = STACK.get();
+        int depth = (int) stack[0];
+        if (depth == 0) {
+            return;
+        }
+        stack[0] = depth - 1;
+        if (depth < stack.length) {
+            CommandMetrics.record(method.getName(), strategyOf(args), end - stack[depth]);
+        }
+    }
+
+    static String strategyOf(Object[] args) {
+        if (args == null || args.length == 0 || !(args[0] instanceof By)) {
+            return null;
+        }
+        By by = (By) args[0];
+        if (by instanceof By.Remotable) {
+            return ((By.Remotable) by).getRemoteParameters().using();
+        }
+        return by.getClass().getSimpleName();
+    }
+}
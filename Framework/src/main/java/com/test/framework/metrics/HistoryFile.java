@@ -0,0 +1,62 @@
+package com.test.framework.metrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Properties;
+import java.util.function.Consumer;
+
+/**
+ * A properties file shared by every JVM on the machine, e.g. parallel shards,
+ * that each merge their run into it.
+ *
+ * Updates happen under a lock on a sibling .lock file and re-read the file
+ * first, so no JVM overwrites what another wrote meanwhile. The new content
+ * replaces the old atomically, readers never see half a file.
+ */
+public final class HistoryFile {
+
+    private HistoryFile() {
+    }
+
+    /**
+     * @return the file's entries, or none if it doesn't exist or can't be read
+     */
+    public static Properties read(Path file) {
+        Properties properties = new Properties();
+        if (Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                properties.load(in);
+            } catch (IOException e) {
+                // Start without history
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Applies {@code update} to the current entries and writes them back
+     */
+    public static void update(Path file, String comment, Consumer<Properties> update) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        try (FileChannel lockChannel = FileChannel.open(dir.resolve(file.getFileName() + ".lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock lock = lockChannel.lock()) {
+            // Re-read under the lock to pick up what other JVMs wrote meanwhile
+            Properties properties = read(file);
+            update.accept(properties);
+            Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                properties.store(out, comment);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+}
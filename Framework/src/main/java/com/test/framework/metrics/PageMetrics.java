@@ -0,0 +1,204 @@
+package com.test.framework.metrics;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Browser-side performance figures of one navigation, read in a single script
+ * call from the Navigation Timing, Paint Timing and Resource Timing entries.
+ *
+ * Engines without Navigation Timing level 2 fall back to performance.timing.
+ * Long tasks are only known when the page was observed from its start, see
+ * {@link PageMetricsListener}. A metric the page hasn't reached yet (e.g.
+ * load with an eager page load strategy) is simply absent.
+ */
+public final class PageMetrics {
+
+    /**
+     * The recorded metrics. Each has the smallest increase that counts as a
+     * regression, so noise on fast pages isn't flagged.
+     */
+    public enum Metric {
+
+        TTFB("ttfb", "ms", 20),
+        DOM_CONTENT_LOADED("domContentLoaded", "ms", 20),
+        LOAD("load", "ms", 20),
+        FIRST_PAINT("firstPaint", "ms", 20),
+        FIRST_CONTENTFUL_PAINT("firstContentfulPaint", "ms", 20),
+        DOCUMENT_BYTES("documentBytes", "B", 1024),
+        RESOURCE_BYTES("resourceBytes", "B", 10 * 1024),
+        RESOURCES("resources", "", 1),
+        LONG_TASKS("longTasks", "", 1),
+        BLOCKING_TIME("blockingTime", "ms", 50);
+
+        private final String key;
+        private final String unit;
+        private final double minimumIncrease;
+
+        Metric(String key, String unit, double minimumIncrease) {
+            this.key = key;
+            this.unit = unit;
+            this.minimumIncrease = minimumIncrease;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public String getUnit() {
+            return unit;
+        }
+
+        public double getMinimumIncrease() {
+            return minimumIncrease;
+        }
+
+        public String format(double value) {
+            if ("B".equals(unit)) {
+                return value >= 1024 ? String.format(Locale.ROOT, "%.1f KB", value / 1024) : (long) value + " B";
+            }
+            return "ms".equals(unit) ? String.format(Locale.ROOT, "%.0f ms", value) : String.valueOf((long) value);
+        }
+    }
+
+    /**
+     * Returns {@code {metricKey: number}}, plus {@code slowestResource} and
+     * {@code slowestResourceMs}. Times are relative to the navigation start.
+     */
+    static final String COLLECT_SCRIPT = String.join("\n",
+            "var p = window.performance, r = {};",
+            "if (!p) return r;",
+            "function set(key, value) { if (value > 0) r[key] = value; }",
+            "var entries = p.getEntriesByType ? function (type) { return p.getEntriesByType(type) || []; }",
+            "  : function () { return []; };",
+            "var nav = entries('navigation')[0];",
+            "if (nav) {",
+            "  set('ttfb', nav.responseStart);",
+            "  set('domContentLoaded', nav.domContentLoadedEventEnd);",
+            "  set('load', nav.loadEventEnd);",
+            "  if (nav.transferSize !== undefined) r.documentBytes = nav.transferSize;",
+            "} else if (p.timing) {",
+            "  var t = p.timing, start = t.navigationStart;",
+            "  set('ttfb', t.responseStart - start);",
+            "  set('domContentLoaded', t.domContentLoadedEventEnd - start);",
+            "  set('load', t.loadEventEnd - start);",
+            "}",
+            "var paints = entries('paint');",
+            "for (var i = 0; i < paints.length; i++) {",
+            "  if (paints[i].name === 'first-paint') set('firstPaint', paints[i].startTime);",
+            "  if (paints[i].name === 'first-contentful-paint') set('firstContentfulPaint', paints[i].startTime);",
+            "}",
+            "if (p.getEntriesByType) {",
+            "  var resources = entries('resource'), bytes = 0, slowest = null;",
+            "  for (var j = 0; j < resources.length; j++) {",
+            "    bytes += resources[j].transferSize || 0;",
+            "    if (!slowest || resources[j].duration > slowest.duration) slowest = resources[j];",
+            "  }",
+            "  r.resources = resources.length;",
+            "  r.resourceBytes = bytes;",
+            "  if (slowest) { r.slowestResource = slowest.name; r.slowestResourceMs = slowest.duration; }",
+            "}",
+            "var tasks = window.__seleniumLongTasks;",
+            "if (tasks) {",
+            "  var blocking = 0;",
+            "  for (var k = 0; k < tasks.length; k++) blocking += Math.max(0, tasks[k] - 50);",
+            "  r.longTasks = tasks.length;",
+            "  r.blockingTime = blocking;",
+            "}",
+            "return r;");
+
+    private final String url;
+    private final Map<Metric, Double> values;
+    private final String slowestResource;
+    private final double slowestResourceMillis;
+
+    PageMetrics(String url, Map<Metric, Double> values, String slowestResource, double slowestResourceMillis) {
+        this.url = url;
+        this.values = Collections.unmodifiableMap(values);
+        this.slowestResource = slowestResource;
+        this.slowestResourceMillis = slowestResourceMillis;
+    }
+
+    /**
+     * Reads the metrics of the page the driver is on
+     *
+     * @return the metrics, or null if the driver can't run scripts
+     */
+    public static PageMetrics collect(WebDriver driver, String url) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return null;
+        }
+        Object raw = ((JavascriptExecutor) driver).executeScript(COLLECT_SCRIPT);
+        if (!(raw instanceof Map)) {
+            return null;
+        }
+        Map<?, ?> result = (Map<?, ?>) raw;
+        Map<Metric, Double> values = new EnumMap<>(Metric.class);
+        for (Metric metric : Metric.values()) {
+            Object value = result.get(metric.getKey());
+            if (value instanceof Number) {
+                values.put(metric, ((Number) value).doubleValue());
+            }
+        }
+        Object slowest = result.get("slowestResource");
+        Object slowestMillis = result.get("slowestResourceMs");
+        return new PageMetrics(url, values, slowest == null ? null : slowest.toString(),
+                slowestMillis instanceof Number ? ((Number) slowestMillis).doubleValue() : 0);
+    }
+
+    /**
+     * Key the URL is aggregated under: without fragment, and without port for
+     * loopback hosts so pages of an in-process fixture server compare across runs
+     */
+    public static String key(String url) {
+        try {
+            URI uri = new URI(url);
+            String host = uri.getHost();
+            boolean loopback = "localhost".equals(host) || "127.0.0.1".equals(host) || "[::1]".equals(host);
+            return new URI(uri.getScheme(), uri.getUserInfo(), host, loopback ? -1 : uri.getPort(),
+                    uri.getPath(), uri.getQuery(), null).toString();
+        } catch (URISyntaxException e) {
+            return url;
+        }
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Map<Metric, Double> getValues() {
+        return values;
+    }
+
+    public Double get(Metric metric) {
+        return values.get(metric);
+    }
+
+    /**
+     * @return the URL of the resource that took longest, or null
+     */
+    public String getSlowestResource() {
+        return slowestResource;
+    }
+
+    public double getSlowestResourceMillis() {
+        return slowestResourceMillis;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(url);
+        values.forEach((metric, value) -> text.append(' ').append(metric.getKey()).append('=').append(metric.format(value)));
+        if (slowestResource != null) {
+            text.append(String.format(Locale.ROOT, " slowest=%s (%.0f ms)", slowestResource, slowestResourceMillis));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,97 @@
+package com.test.framework.metrics;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.util.Map;
+
+/**
+ * Collects {@link PageMetrics} after every get(), navigate().to(), back(),
+ * forward() and refresh() and hands them to {@link PageMetricsStore}.
+ *
+ * On Chromium a long task observer is registered for every new document, so
+ * long tasks during load are counted too; other browsers report no long
+ * tasks. Collection is one script call per navigation on a session that is
+ * open anyway, and a failure to collect never fails the navigation.
+ *
+ * Public only because EventFiringDecorator invokes listener methods
+ * reflectively.
+ */
+public class PageMetricsListener implements WebDriverListener {
+
+    private static final String LONG_TASK_OBSERVER = String.join("\n",
+            "window.__seleniumLongTasks = [];",
+            "try {",
+            "  new PerformanceObserver(function (list) {",
+            "    list.getEntries().forEach(function (e) { window.__seleniumLongTasks.push(e.duration); });",
+            "  }).observe({type: 'longtask', buffered: true});",
+            "} catch (e) {}");
+
+    private final WebDriver driver;
+    private final String context;
+
+    /**
+     * @param driver  the driver whose navigations are observed, used to run
+     *                the collection script
+     * @param context launch profile, backend and browser of the driver,
+     *                separated by |, see {@link PageMetricsStore#record}
+     */
+    public PageMetricsListener(WebDriver driver, String context) {
+        this.driver = driver;
+        this.context = context;
+        if (driver instanceof HasCdp) {
+            try {
+                ((HasCdp) driver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                        Map.of("source", LONG_TASK_OBSERVER));
+            } catch (WebDriverException e) {
+                System.out.println("📊 Long tasks not observed: " + e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void afterGet(WebDriver driver, String url) {
+        collect(url);
+    }
+
+    @Override
+    public void afterTo(WebDriver.Navigation navigation, String url) {
+        collect(url);
+    }
+
+    @Override
+    public void afterBack(WebDriver.Navigation navigation) {
+        collect(null);
+    }
+
+    @Override
+    public void afterForward(WebDriver.Navigation navigation) {
+        collect(null);
+    }
+
+    @Override
+    public void afterRefresh(WebDriver.Navigation navigation) {
+        collect(null);
+    }
+
+    /**
+     * @param url the URL navigated to, or null for the current one
+     */
+    private void collect(String url) {
+        try {
+            String page = url != null ? url : driver.getCurrentUrl();
+            if (page == null || page.startsWith("about:") || page.startsWith("data:")) {
+                return;
+            }
+            PageMetrics metrics = PageMetrics.collect(driver, page);
+            if (metrics != null) {
+                PageMetricsStore.record(context, metrics);
+                System.out.println("📊 " + metrics);
+            }
+        } catch (WebDriverException e) {
+            // Metrics are best effort, e.g. an alert may be blocking scripts
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.test.framework.metrics;
+
+import com.test.framework.metrics.PageMetrics.Metric;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Process-wide record of {@link PageMetrics} per page, compared against the
+ * same page in earlier runs. A page is a URL, keyed as by
+ * {@link PageMetrics#key}, as loaded by one launch profile, backend and
+ * browser, e.g. {@code FAST|CHROME|chrome|http://localhost/demo.html}, so an
+ * in-JVM run never becomes the baseline of a real browser.
+ *
+ * Within a run each metric is summarised by its median over all navigations
+ * to the page. Across runs the medians are averaged in
+ * ~/.cache/selenium-framework/page-metrics.properties (override with
+ * -Dpage.metrics.file), weighting the last {@value #HISTORY_RUNS} runs, so
+ * the baseline follows deliberate changes. Parallel JVMs merge their runs
+ * into the file under a lock. A metric whose median exceeds the baseline by
+ * more than -Dpage.metrics.tolerance (default 0.25, i.e. 25%) and by more
+ * than its minimum increase is a regression. Regressed values are kept out
+ * of the baseline unless -Dpage.metrics.rebaseline=true.
+ */
+public final class PageMetricsStore {
+
+    private static final int HISTORY_RUNS = 20;
+
+    // Profile, backend, browser, URL and metric
+    private static final int KEY_PARTS = 5;
+
+    private static final Map<String, Map<Metric, List<Double>>> RUN = new TreeMap<>();
+    private static final Properties HISTORY;
+    private static final Path HISTORY_FILE;
+
+    static {
+        String configured = System.getProperty("page.metrics.file");
+        HISTORY_FILE = configured != null
+                ? Paths.get(configured)
+                : Paths.get(System.getProperty("user.home"), ".cache", "selenium-framework", "page-metrics.properties");
+        HISTORY = HistoryFile.read(HISTORY_FILE);
+        Runtime.getRuntime().addShutdownHook(new Thread(PageMetricsStore::save, "page-metrics"));
+    }
+
+    /**
+     * A metric that got worse than its baseline
+     */
+    public static final class Regression {
+
+        private final String page;
+        private final Metric metric;
+        private final double baseline;
+        private final double current;
+
+        Regression(String page, Metric metric, double baseline, double current) {
+            this.page = page;
+            this.metric = metric;
+            this.baseline = baseline;
+            this.current = current;
+        }
+
+        /**
+         * @return launch profile, backend, browser and URL, separated by |
+         */
+        public String getPage() {
+            return page;
+        }
+
+        public Metric getMetric() {
+            return metric;
+        }
+
+        public double getBaseline() {
+            return baseline;
+        }
+
+        public double getCurrent() {
+            return current;
+        }
+
+        @Override
+        public String toString() {
+            String increase = baseline > 0
+                    ? String.format(Locale.ROOT, "+%.0f%%", (current / baseline - 1) * 100) : "up from none";
+            return page + " " + metric.getKey() + " " + metric.format(baseline) + " -> " + metric.format(current)
+                    + " (" + increase + ")";
+        }
+    }
+
+    private PageMetricsStore() {
+    }
+
+    /**
+     * @param context launch profile, backend and browser the page was loaded
+     *                with, separated by |
+     */
+    public static void record(String context, PageMetrics metrics) {
+        String page = context + "|" + PageMetrics.key(metrics.getUrl());
+        synchronized (RUN) {
+            Map<Metric, List<Double>> samples = RUN.computeIfAbsent(page, k -> new EnumMap<>(Metric.class));
+            metrics.getValues().forEach((metric, value) ->
+                    samples.computeIfAbsent(metric, k -> new ArrayList<>()).add(value));
+        }
+    }
+
+    /**
+     * @return the medians of this run per page and metric
+     */
+    public static Map<String, Map<Metric, Double>> medians() {
+        Map<String, Map<Metric, Double>> medians = new TreeMap<>();
+        synchronized (RUN) {
+            RUN.forEach((page, samples) -> {
+                Map<Metric, Double> values = new EnumMap<>(Metric.class);
+                samples.forEach((metric, list) -> values.put(metric, median(list)));
+                medians.put(page, values);
+            });
+        }
+        return medians;
+    }
+
+    /**
+     * @return the metrics of this run that regressed against earlier runs
+     */
+    public static List<Regression> regressions() {
+        double tolerance = Double.parseDouble(System.getProperty("page.metrics.tolerance", "0.25"));
+        List<Regression> regressions = new ArrayList<>();
+        medians().forEach((page, values) -> values.forEach((metric, current) -> {
+            Double baseline = baseline(page, metric);
+            if (baseline != null && current > baseline * (1 + tolerance)
+                    && current - baseline > metric.getMinimumIncrease()) {
+                regressions.add(new Regression(page, metric, baseline, current));
+            }
+        }));
+        return regressions;
+    }
+
+    /**
+     * Prints this run's medians per page and any regressions; nothing if no
+     * navigation was measured
+     */
+    public static void printSummary() {
+        Map<String, Map<Metric, Double>> medians = medians();
+        if (medians.isEmpty()) {
+            return;
+        }
+        System.out.println("📊 Page metrics (median per page):");
+        medians.forEach((page, values) -> {
+            StringBuilder line = new StringBuilder("  ").append(page);
+            values.forEach((metric, value) -> line.append(' ').append(metric.getKey()).append('=')
+                    .append(metric.format(value)));
+            System.out.println(line);
+        });
+        List<Regression> regressions = regressions();
+        if (regressions.isEmpty()) {
+            System.out.println("✓ No page metric regressions against " + HISTORY_FILE);
+        } else {
+            regressions.forEach(r -> System.out.println("✗ Page metric regression: " + r));
+        }
+    }
+
+    /**
+     * Writes one CSV row per page and metric with this run's median, the
+     * baseline and whether it regressed
+     */
+    public static void writeReport(Path file) throws IOException {
+        List<Regression> regressions = regressions();
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("profile,backend,browser,url,metric,unit,median,baseline,regression\n");
+            for (Map.Entry<String, Map<Metric, Double>> entry : medians().entrySet()) {
+                String page = entry.getKey();
+                String[] parts = page.split("\\|", KEY_PARTS - 1);
+                for (Map.Entry<Metric, Double> value : entry.getValue().entrySet()) {
+                    Metric metric = value.getKey();
+                    Double baseline = baseline(page, metric);
+                    boolean regressed = regressions.stream()
+                            .anyMatch(r -> r.getPage().equals(page) && r.getMetric() == metric);
+                    out.write(String.format(Locale.ROOT, "%s,%s,%s,%s,%s,%s,%.1f,%s,%s%n", csv(parts[0]),
+                            csv(parts[1]), csv(parts[2]), csv(parts[3]), metric.getKey(), metric.getUnit(),
+                            value.getValue(),
+                            baseline == null ? "" : String.format(Locale.ROOT, "%.1f", baseline), regressed));
+                }
+            }
+        }
+    }
+
+    private static Double baseline(String page, Metric metric) {
+        String value = HISTORY.getProperty(page + "|" + metric.getKey());
+        return value == null ? null : Double.parseDouble(value.split(",")[0]);
+    }
+
+    /**
+     * Folds this run's medians into the file, leaving out regressions unless
+     * rebaselining
+     */
+    private static void save() {
+        Map<String, Map<Metric, Double>> medians = medians();
+        if (medians.isEmpty()) {
+            return;
+        }
+        boolean rebaseline = Boolean.parseBoolean(System.getProperty("page.metrics.rebaseline", "false"));
+        List<Regression> regressions = rebaseline ? List.of() : regressions();
+        try {
+            HistoryFile.update(HISTORY_FILE, "Average of the per-run median page metrics per page", history -> {
+                // Entries from before pages were keyed with profile, backend and browser
+                history.stringPropertyNames().stream()
+                        .filter(key -> key.split("\\|").length < KEY_PARTS)
+                        .forEach(history::remove);
+                medians.forEach((page, values) -> values.forEach((metric, current) -> {
+                    boolean regressed = regressions.stream()
+                            .anyMatch(r -> r.getPage().equals(page) && r.getMetric() == metric);
+                    if (regressed) {
+                        return;
+                    }
+                    String key = page + "|" + metric.getKey();
+                    String previous = history.getProperty(key);
+                    double mean = current;
+                    long runs = 1;
+                    if (previous != null && !rebaseline) {
+                        String[] parts = previous.split(",");
+                        runs = Math.min(Long.parseLong(parts[1]) + 1, HISTORY_RUNS);
+                        mean = Double.parseDouble(parts[0]) + (current - Double.parseDouble(parts[0])) / runs;
+                    }
+                    history.setProperty(key, String.format(Locale.ROOT, "%.1f,%d", mean, runs));
+                }));
+            });
+        } catch (IOException e) {
+            // History is best effort
+        }
+    }
+
+    private static double median(List<Double> values) {
+        List<Double> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int middle = sorted.size() / 2;
+        return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+    }
+
+    private static String csv(String value) {
+        return value.contains(",") || value.contains("\"") ? "\"" + value.replace("\"", "\"\"") + "\"" : value;
+    }
+}
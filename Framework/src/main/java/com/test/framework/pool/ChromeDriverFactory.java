@@ -0,0 +1,45 @@
+package com.test.framework.pool;
+
+import com.test.framework.driver.DriverBackend;
+import com.test.framework.driver.DriverResolver;
+import com.test.framework.driver.LaunchProfile;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+/**
+ * Launches ChromeDriver sessions with a locally resolved driver binary
+ */
+public class ChromeDriverFactory implements DriverFactory {
+
+    private final ChromeOptions options;
+    private final LaunchProfile profile;
+
+    /**
+     * Uses the launch profile selected with -Dbrowser.profile
+     */
+    public ChromeDriverFactory() {
+        this(LaunchProfile.fromSystemProperties());
+    }
+
+    public ChromeDriverFactory(LaunchProfile profile) {
+        this.options = profile.chromeOptions();
+        this.profile = profile;
+    }
+
+    /**
+     * Launches with exactly these options and returns the undecorated driver
+     */
+    public ChromeDriverFactory(ChromeOptions options) {
+        this.options = options;
+        this.profile = null;
+    }
+
+    @Override
+    public WebDriver create() {
+        // Resolves chromedriver from the local cache, memoized per JVM
+        DriverResolver.resolveChromeDriver();
+        WebDriver driver = new ChromeDriver(options);
+        return profile == null ? driver : profile.prepare(driver, DriverBackend.CHROME);
+    }
+}
@@ -0,0 +1,13 @@
+package com.test.framework.pool;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Creates a new browser session for the pool. Called only when no idle session
+ * can be reused.
+ */
+@FunctionalInterface
+public interface DriverFactory {
+
+    WebDriver create();
+}
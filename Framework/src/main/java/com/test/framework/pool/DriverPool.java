@@ -0,0 +1,209 @@
+package com.test.framework.pool;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of reusable browser sessions.
+ *
+ * A session is launched on first demand and handed back to the pool on
+ * {@link #release(WebDriver)}, where it is reset (cookies, storage, extra
+ * windows, about:blank) for the next borrower. Sessions that fail the health
+ * check or exceed the configured max uses / max age are quit and replaced, so a
+ * suite pays the browser launch cost roughly once per pool slot.
+ */
+public class DriverPool implements AutoCloseable {
+
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "try { window.localStorage.clear(); } catch (e) {}"
+                    + "try { window.sessionStorage.clear(); } catch (e) {}";
+
+    private final DriverFactory factory;
+    private final DriverPoolConfig config;
+    private final Semaphore permits;
+    private final Deque<PooledDriver> idle = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, PooledDriver> leased = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger reused = new AtomicInteger();
+    private volatile boolean closed;
+
+    public DriverPool(DriverFactory factory) {
+        this(factory, DriverPoolConfig.fromSystemProperties());
+    }
+
+    public DriverPool(DriverFactory factory, DriverPoolConfig config) {
+        this.factory = factory;
+        this.config = config;
+        this.permits = new Semaphore(config.getMaxSize(), true);
+    }
+
+    /**
+     * Borrows a session, waiting up to the configured borrow timeout for a free
+     * slot.
+     */
+    public WebDriver borrow() {
+        return borrow(config.getBorrowTimeout());
+    }
+
+    public WebDriver borrow(Duration timeout) {
+        if (closed) {
+            throw new IllegalStateException("Driver pool is closed");
+        }
+        try {
+            if (!permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Timed out after " + timeout
+                        + " waiting for a driver (pool size " + config.getMaxSize() + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a driver", e);
+        }
+
+        try {
+            PooledDriver pooled = takeIdle();
+            if (pooled == null) {
+                pooled = new PooledDriver(factory.create());
+                created.incrementAndGet();
+            } else {
+                reused.incrementAndGet();
+            }
+            pooled.markBorrowed();
+            leased.put(pooled.getDriver(), pooled);
+            return pooled.getDriver();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a borrowed session. It is reset and kept for the next borrower, or
+     * quit if it is unhealthy, expired or the pool has been closed.
+     */
+    public void release(WebDriver driver) {
+        PooledDriver pooled = leased.remove(driver);
+        if (pooled == null) {
+            throw new IllegalArgumentException("Driver was not borrowed from this pool");
+        }
+        try {
+            if (closed || pooled.isExpired(config) || !reset(driver)) {
+                destroy(pooled);
+            } else {
+                // Most recently used first, so a small suite keeps hitting the same warm sessions
+                idle.offerFirst(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Quits a borrowed session instead of returning it, e.g. after the browser
+     * crashed during a test.
+     */
+    public void invalidate(WebDriver driver) {
+        PooledDriver pooled = leased.remove(driver);
+        if (pooled == null) {
+            throw new IllegalArgumentException("Driver was not borrowed from this pool");
+        }
+        try {
+            destroy(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int getCreatedCount() {
+        return created.get();
+    }
+
+    public int getReusedCount() {
+        return reused.get();
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public int getLeasedCount() {
+        return leased.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        PooledDriver pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            destroy(pooled);
+        }
+    }
+
+    private PooledDriver takeIdle() {
+        PooledDriver pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            if (!pooled.isExpired(config) && (!config.isValidateOnBorrow() || isHealthy(pooled.getDriver()))) {
+                return pooled;
+            }
+            destroy(pooled);
+        }
+        return null;
+    }
+
+    /**
+     * Cheapest command that still proves the browser and session are alive
+     */
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private static boolean reset(WebDriver driver) {
+        try {
+            // Close any windows or tabs the test opened and keep the first one
+            Set<String> handles = driver.getWindowHandles();
+            String main = handles.iterator().next();
+            if (handles.size() > 1) {
+                for (String handle : handles) {
+                    if (!handle.equals(main)) {
+                        driver.switchTo().window(handle).close();
+                    }
+                }
+                driver.switchTo().window(main);
+            }
+
+            // Storage is per origin, so clear it before leaving the current page
+            driver.manage().deleteAllCookies();
+            if (driver instanceof JavascriptExecutor) {
+                ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+            }
+            driver.get("about:blank");
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static void destroy(PooledDriver pooled) {
+        try {
+            pooled.getDriver().quit();
+        } catch (WebDriverException e) {
+            // The session is being discarded anyway
+        }
+    }
+}
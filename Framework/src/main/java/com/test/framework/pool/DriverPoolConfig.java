@@ -0,0 +1,87 @@
+package com.test.framework.pool;
+
+import java.time.Duration;
+
+/**
+ * Sizing and eviction settings for a {@link DriverPool}.
+ *
+ * Defaults can be overridden with system properties so the same suite can run
+ * with a different pool size on a laptop and in CI:
+ * driver.pool.size, driver.pool.maxUses, driver.pool.maxAgeSeconds and
+ * driver.pool.borrowTimeoutSeconds.
+ */
+public class DriverPoolConfig {
+
+    private int maxSize = Math.max(1, Runtime.getRuntime().availableProcessors());
+    private int maxUses = 50;
+    private Duration maxAge = Duration.ofMinutes(30);
+    private Duration borrowTimeout = Duration.ofSeconds(60);
+    private boolean validateOnBorrow = true;
+
+    public static DriverPoolConfig fromSystemProperties() {
+        DriverPoolConfig config = new DriverPoolConfig();
+        config.maxSize = Integer.getInteger("driver.pool.size", config.maxSize);
+        config.maxUses = Integer.getInteger("driver.pool.maxUses", config.maxUses);
+        config.maxAge = Duration.ofSeconds(
+                Long.getLong("driver.pool.maxAgeSeconds", config.maxAge.getSeconds()));
+        config.borrowTimeout = Duration.ofSeconds(
+                Long.getLong("driver.pool.borrowTimeoutSeconds", config.borrowTimeout.getSeconds()));
+        return config;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public DriverPoolConfig setMaxSize(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        return this;
+    }
+
+    public int getMaxUses() {
+        return maxUses;
+    }
+
+    /**
+     * Number of borrows after which a session is quit instead of reused. Zero
+     * means unlimited.
+     */
+    public DriverPoolConfig setMaxUses(int maxUses) {
+        this.maxUses = maxUses;
+        return this;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    /**
+     * Lifetime after which a session is quit instead of reused. Zero means
+     * unlimited.
+     */
+    public DriverPoolConfig setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+        return this;
+    }
+
+    public Duration getBorrowTimeout() {
+        return borrowTimeout;
+    }
+
+    public DriverPoolConfig setBorrowTimeout(Duration borrowTimeout) {
+        this.borrowTimeout = borrowTimeout;
+        return this;
+    }
+
+    public boolean isValidateOnBorrow() {
+        return validateOnBorrow;
+    }
+
+    public DriverPoolConfig setValidateOnBorrow(boolean validateOnBorrow) {
+        this.validateOnBorrow = validateOnBorrow;
+        return this;
+    }
+}
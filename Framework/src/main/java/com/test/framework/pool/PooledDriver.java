@@ -0,0 +1,33 @@
+package com.test.framework.pool;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Bookkeeping for one pooled browser session
+ */
+class PooledDriver {
+
+    private final WebDriver driver;
+    private final long createdAtNanos = System.nanoTime();
+    private int uses;
+
+    PooledDriver(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    WebDriver getDriver() {
+        return driver;
+    }
+
+    void markBorrowed() {
+        uses++;
+    }
+
+    boolean isExpired(DriverPoolConfig config) {
+        if (config.getMaxUses() > 0 && uses >= config.getMaxUses()) {
+            return true;
+        }
+        long maxAgeNanos = config.getMaxAge().toNanos();
+        return maxAgeNanos > 0 && System.nanoTime() - createdAtNanos >= maxAgeNanos;
+    }
+}
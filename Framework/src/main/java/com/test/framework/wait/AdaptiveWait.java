@@ -0,0 +1,83 @@
+package com.test.framework.wait;
+
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.Wait;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Wait that returns as soon as a condition holds instead of sleeping for a
+ * fixed time.
+ *
+ * The first checks happen almost immediately and the poll interval grows
+ * geometrically up to a cap, so fast pages are detected within a few
+ * milliseconds while slow pages are not flooded with wire calls. Accepts the
+ * same conditions as {@link org.openqa.selenium.support.ui.WebDriverWait},
+ * including {@link org.openqa.selenium.support.ui.ExpectedConditions} and
+ * {@link PageConditions}.
+ */
+public class AdaptiveWait implements Wait<WebDriver> {
+
+    private static final Duration DEFAULT_INITIAL_POLL = Duration.ofMillis(10);
+    private static final Duration DEFAULT_MAX_POLL = Duration.ofMillis(250);
+    private static final double BACKOFF_FACTOR = 1.5;
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private Duration initialPoll = DEFAULT_INITIAL_POLL;
+    private Duration maxPoll = DEFAULT_MAX_POLL;
+
+    public AdaptiveWait(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeout = timeout;
+    }
+
+    public AdaptiveWait withPolling(Duration initialPoll, Duration maxPoll) {
+        this.initialPoll = initialPoll;
+        this.maxPoll = maxPoll;
+        return this;
+    }
+
+    @Override
+    public <T> T until(Function<? super WebDriver, T> condition) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long pollNanos = initialPoll.toNanos();
+        RuntimeException lastError = null;
+
+        while (true) {
+            try {
+                T value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    return value;
+                }
+                lastError = null;
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                // The page is still changing, keep waiting
+                lastError = e;
+            }
+
+            long now = System.nanoTime();
+            if (now >= deadline) {
+                throw new TimeoutException("Condition not met after "
+                        + Duration.ofNanos(now - start).toMillis() + " ms: " + condition, lastError);
+            }
+            sleep(Math.min(pollNanos, deadline - now));
+            pollNanos = Math.min((long) (pollNanos * BACKOFF_FACTOR), maxPoll.toNanos());
+        }
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting", e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.test.framework.wait;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+/**
+ * Condition that {@link ObserverWait} evaluates inside the page, re-checking
+ * on DOM mutations instead of polling over the wire. Created by
+ * {@link ObservedConditions}.
+ *
+ * Applied directly (e.g. by a WebDriverWait) it behaves like the equivalent
+ * {@link org.openqa.selenium.support.ui.ExpectedConditions} condition.
+ */
+public final class ObservedCondition<T> implements ExpectedCondition<T> {
+
+    private final String mode;
+    private final By locator;
+    private final String argument;
+    private final ExpectedCondition<T> fallback;
+
+    ObservedCondition(String mode, By locator, String argument, ExpectedCondition<T> fallback) {
+        this.mode = mode;
+        this.locator = locator;
+        this.argument = argument;
+        this.fallback = fallback;
+    }
+
+    String getMode() {
+        return mode;
+    }
+
+    By getLocator() {
+        return locator;
+    }
+
+    String getArgument() {
+        return argument;
+    }
+
+    @Override
+    public T apply(WebDriver driver) {
+        return fallback.apply(driver);
+    }
+
+    @Override
+    public String toString() {
+        return fallback.toString();
+    }
+}
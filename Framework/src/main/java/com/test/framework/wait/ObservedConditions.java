@@ -0,0 +1,51 @@
+package com.test.framework.wait;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+/**
+ * Push-based counterparts of the most used {@link ExpectedConditions}, for
+ * {@link ObserverWait}. Each one falls back to its ExpectedConditions
+ * equivalent when the page can't be observed.
+ */
+public final class ObservedConditions {
+
+    private ObservedConditions() {
+    }
+
+    public static ObservedCondition<WebElement> presenceOfElementLocated(By locator) {
+        return new ObservedCondition<>("present", locator, "",
+                ExpectedConditions.presenceOfElementLocated(locator));
+    }
+
+    public static ObservedCondition<WebElement> visibilityOfElementLocated(By locator) {
+        return new ObservedCondition<>("visible", locator, "",
+                ExpectedConditions.visibilityOfElementLocated(locator));
+    }
+
+    public static ObservedCondition<Boolean> invisibilityOfElementLocated(By locator) {
+        return new ObservedCondition<>("invisible", locator, "",
+                ExpectedConditions.invisibilityOfElementLocated(locator));
+    }
+
+    public static ObservedCondition<Boolean> textToBePresentInElementLocated(By locator, String text) {
+        return new ObservedCondition<>("text", locator, text,
+                ExpectedConditions.textToBePresentInElementLocated(locator, text));
+    }
+
+    public static ObservedCondition<WebElement> elementToBeClickable(By locator) {
+        return new ObservedCondition<>("clickable", locator, "",
+                ExpectedConditions.elementToBeClickable(locator));
+    }
+
+    /**
+     * Element is visible and intersects the viewport, tracked with an
+     * IntersectionObserver so scrolling is noticed too. The polling fallback
+     * can only check visibility.
+     */
+    public static ObservedCondition<WebElement> elementInViewport(By locator) {
+        return new ObservedCondition<>("viewport", locator, "",
+                ExpectedConditions.visibilityOfElementLocated(locator));
+    }
+}
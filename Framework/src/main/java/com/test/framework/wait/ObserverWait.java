@@ -0,0 +1,138 @@
+package com.test.framework.wait;
+
+import com.test.framework.locator.LocatorScripts;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.Wait;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Wait that lets the page report when a condition becomes true.
+ *
+ * For an {@link ObservedCondition} one asynchronous script installs a
+ * MutationObserver (and an IntersectionObserver for viewport conditions) and
+ * answers the moment the DOM change lands, so there is no poll interval to
+ * sit out and no wire traffic while waiting. Any other condition, locators
+ * that can't be resolved in the page, and drivers that can't run async
+ * scripts fall back to {@link AdaptiveWait} polling.
+ */
+public class ObserverWait implements Wait<WebDriver> {
+
+    // Each script call stays well below the default 30 s script timeout
+    private static final Duration MAX_SLICE = Duration.ofSeconds(5);
+
+    private static final String OBSERVE_SCRIPT = String.join("\n",
+            LocatorScripts.FIND_FUNCTION,
+            "var query = arguments[0], mode = arguments[1], argument = arguments[2], timeout = arguments[3];",
+            "var done = arguments[arguments.length - 1], finished = false, mutations, viewport, watched, safety, timer;",
+            "function visible(e) {",
+            "  if (e.isConnected === false) return false;",
+            "  for (var n = e; n && n.nodeType === 1; n = n.parentElement) {",
+            "    var style = getComputedStyle(n);",
+            "    if (style.display === 'none' || style.opacity === '0') return false;",
+            "  }",
+            "  if (getComputedStyle(e).visibility !== 'visible') return false;",
+            "  return e.offsetWidth > 0 || e.offsetHeight > 0 || e.getClientRects().length > 0;",
+            "}",
+            "function inView(e) {",
+            "  var r = e.getBoundingClientRect();",
+            "  return r.bottom > 0 && r.right > 0 && r.top < innerHeight && r.left < innerWidth;",
+            "}",
+            "function watch(e) {",
+            "  if (!window.IntersectionObserver || e === watched) return;",
+            "  if (!viewport) {",
+            "    viewport = new IntersectionObserver(function (entries) {",
+            "      for (var i = 0; i < entries.length; i++) {",
+            "        if (entries[i].isIntersecting && entries[i].target === watched && visible(watched)) finish(watched);",
+            "      }",
+            "    });",
+            "  }",
+            "  if (watched) viewport.unobserve(watched);",
+            "  viewport.observe(watched = e);",
+            "}",
+            "function check() {",
+            "  var e = find(query[0], query[1])[0];",
+            "  switch (mode) {",
+            "    case 'present': return e || null;",
+            "    case 'visible': return e && visible(e) ? e : null;",
+            "    case 'invisible': return !e || !visible(e) ? true : null;",
+            "    case 'text': return e && (e.textContent || '').indexOf(argument) >= 0 ? true : null;",
+            "    case 'clickable': return e && visible(e) && !e.disabled ? e : null;",
+            "    case 'viewport':",
+            "      if (e && visible(e) && inView(e)) return e;",
+            "      if (e) watch(e);",
+            "      return null;",
+            "    default: throw new Error('Unsupported condition: ' + mode);",
+            "  }",
+            "}",
+            "function finish(value) {",
+            "  if (finished) return;",
+            "  finished = true;",
+            "  if (mutations) mutations.disconnect();",
+            "  if (viewport) viewport.disconnect();",
+            "  clearInterval(safety);",
+            "  clearTimeout(timer);",
+            "  done(value === null ? null : { value: value });",
+            "}",
+            "var initial = check();",
+            "if (initial) { finish(initial); return; }",
+            "mutations = new MutationObserver(function () { var v = check(); if (v) finish(v); });",
+            "mutations.observe(document, { subtree: true, childList: true, attributes: true, characterData: true });",
+            // Safety net for changes no observer reports (stylesheets, transitions); runs in the page, not over the wire
+            "safety = setInterval(function () { var v = check(); if (v) finish(v); }, 100);",
+            "timer = setTimeout(function () { finish(null); }, timeout);");
+
+    private final WebDriver driver;
+    private final Duration timeout;
+
+    public ObserverWait(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeout = timeout;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T until(Function<? super WebDriver, T> condition) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        List<Object> query = condition instanceof ObservedCondition
+                ? LocatorScripts.query(((ObservedCondition<?>) condition).getLocator())
+                : null;
+        if (query == null || !(driver instanceof JavascriptExecutor)) {
+            return new AdaptiveWait(driver, timeout).until(condition);
+        }
+
+        ObservedCondition<T> observed = (ObservedCondition<T>) condition;
+        while (true) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException("Condition not met after "
+                        + Duration.ofNanos(System.nanoTime() - start).toMillis() + " ms: " + condition);
+            }
+            long sliceMillis = Math.max(1, Math.min(remaining, MAX_SLICE.toNanos()) / 1_000_000);
+            Object result;
+            try {
+                result = ((JavascriptExecutor) driver).executeAsyncScript(OBSERVE_SCRIPT,
+                        query, observed.getMode(), observed.getArgument(), sliceMillis);
+            } catch (ScriptTimeoutException e) {
+                // The driver's script timeout is shorter than the slice, try again
+                continue;
+            } catch (JavascriptException | UnsupportedCommandException e) {
+                // No observers in this page (or the page navigated away), poll for the rest
+                return new AdaptiveWait(driver, Duration.ofNanos(Math.max(0, deadline - System.nanoTime())))
+                        .until(condition);
+            }
+            if (result instanceof Map) {
+                return (T) ((Map<?, ?>) result).get("value");
+            }
+        }
+    }
+}
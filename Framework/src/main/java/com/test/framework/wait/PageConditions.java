@@ -0,0 +1,163 @@
+package com.test.framework.wait;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Readiness conditions for {@link AdaptiveWait}.
+ *
+ * The first check on a page installs a small tracker that counts in-flight
+ * fetch/XHR requests and records the time of the last network activity and
+ * the last DOM mutation. Every later check reads all of it in a single script
+ * call.
+ */
+public final class PageConditions {
+
+    private static final String PROBE_SCRIPT = String.join("\n",
+            "var w = window, perf = w.performance || {};",
+            // Fall back gracefully where the Performance API is incomplete (e.g. the in-JVM backend)
+            "var clock = perf.now ? function () { return perf.now(); } : function () { return Date.now(); };",
+            "function resources() { return perf.getEntriesByType ? perf.getEntriesByType('resource') : []; }",
+            "function lastResourceEnd() {",
+            "  var entries = resources(), end = 0;",
+            "  for (var i = 0; i < entries.length; i++) { end = Math.max(end, entries[i].responseEnd); }",
+            "  return end;",
+            "}",
+            "var s = w.__readiness;",
+            "if (!s) {",
+            "  var start = lastResourceEnd();",
+            "  s = w.__readiness = { pending: 0, lastNetwork: start, lastMutation: start, resources: 0 };",
+            "  var touch = function () { s.lastNetwork = clock(); };",
+            "  if (w.fetch) {",
+            "    var fetch = w.fetch;",
+            "    w.fetch = function () {",
+            "      s.pending++; touch();",
+            "      var done = function () { s.pending--; touch(); };",
+            "      var result = fetch.apply(this, arguments);",
+            "      result.then(done, done);",
+            "      return result;",
+            "    };",
+            "  }",
+            "  var send = XMLHttpRequest.prototype.send;",
+            "  XMLHttpRequest.prototype.send = function () {",
+            "    s.pending++; touch();",
+            "    this.addEventListener('loadend', function () { s.pending--; touch(); });",
+            "    return send.apply(this, arguments);",
+            "  };",
+            "  new MutationObserver(function () { s.lastMutation = clock(); })",
+            "    .observe(document, { subtree: true, childList: true, attributes: true, characterData: true });",
+            "}",
+            "var count = resources().length;",
+            "if (count !== s.resources) { s.resources = count; s.lastNetwork = Math.max(s.lastNetwork, lastResourceEnd()); }",
+            "var now = clock();",
+            "return [document.readyState, s.pending, now - s.lastNetwork, now - s.lastMutation];");
+
+    private static final String ACTIONABLE_SCRIPT = String.join("\n",
+            "var e = arguments[0];",
+            "if (!e.isConnected || e.disabled) return false;",
+            "var style = getComputedStyle(e);",
+            "if (style.display === 'none' || style.visibility !== 'visible' || style.pointerEvents === 'none') return false;",
+            "var r = e.getBoundingClientRect();",
+            "if (r.width === 0 || r.height === 0) return false;",
+            "var x = r.left + r.width / 2, y = r.top + r.height / 2;",
+            // Off-screen elements are scrolled into view by the click itself
+            "if (x < 0 || y < 0 || x >= innerWidth || y >= innerHeight) return true;",
+            "var hit = document.elementFromPoint(x, y);",
+            "return hit === e || e.contains(hit);");
+
+    private PageConditions() {
+    }
+
+    /**
+     * document.readyState is "complete"
+     */
+    public static ExpectedCondition<Boolean> documentReady() {
+        return new ProbeCondition("document ready", Duration.ZERO, Duration.ZERO, false, false);
+    }
+
+    /**
+     * No fetch/XHR request in flight and no network activity for the quiet period
+     */
+    public static ExpectedCondition<Boolean> networkIdle(Duration quietPeriod) {
+        return new ProbeCondition("network idle for " + quietPeriod.toMillis() + " ms",
+                quietPeriod, Duration.ZERO, true, false);
+    }
+
+    /**
+     * No DOM mutation for the quiet period
+     */
+    public static ExpectedCondition<Boolean> domQuiet(Duration quietPeriod) {
+        return new ProbeCondition("DOM quiet for " + quietPeriod.toMillis() + " ms",
+                Duration.ZERO, quietPeriod, false, true);
+    }
+
+    /**
+     * Document loaded, network idle and DOM quiet, checked in one round trip
+     */
+    public static ExpectedCondition<Boolean> pageSettled(Duration quietPeriod) {
+        return new ProbeCondition("page settled for " + quietPeriod.toMillis() + " ms",
+                quietPeriod, quietPeriod, true, true);
+    }
+
+    /**
+     * Element is attached, visible, enabled and not covered by another element.
+     * Returns the element once it can receive a click or keystrokes.
+     */
+    public static ExpectedCondition<WebElement> elementActionable(By locator) {
+        return new ExpectedCondition<WebElement>() {
+            @Override
+            public WebElement apply(WebDriver driver) {
+                WebElement element = driver.findElement(locator);
+                Object actionable = ((JavascriptExecutor) driver).executeScript(ACTIONABLE_SCRIPT, element);
+                return Boolean.TRUE.equals(actionable) ? element : null;
+            }
+
+            @Override
+            public String toString() {
+                return "element to be actionable: " + locator;
+            }
+        };
+    }
+
+    private static final class ProbeCondition implements ExpectedCondition<Boolean> {
+
+        private final String description;
+        private final long networkQuietMillis;
+        private final long domQuietMillis;
+        private final boolean checkNetwork;
+        private final boolean checkDom;
+
+        ProbeCondition(String description, Duration networkQuiet, Duration domQuiet,
+                boolean checkNetwork, boolean checkDom) {
+            this.description = description;
+            this.networkQuietMillis = networkQuiet.toMillis();
+            this.domQuietMillis = domQuiet.toMillis();
+            this.checkNetwork = checkNetwork;
+            this.checkDom = checkDom;
+        }
+
+        @Override
+        public Boolean apply(WebDriver driver) {
+            List<?> state = (List<?>) ((JavascriptExecutor) driver).executeScript(PROBE_SCRIPT);
+            if (!"complete".equals(state.get(0))) {
+                return false;
+            }
+            if (checkNetwork && (((Number) state.get(1)).longValue() > 0
+                    || ((Number) state.get(2)).doubleValue() < networkQuietMillis)) {
+                return false;
+            }
+            return !checkDom || ((Number) state.get(3)).doubleValue() >= domQuietMillis;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.test;
+
+import com.test.framework.driver.DriverBackend;
+import com.test.framework.driver.LaunchProfile;
+import com.test.framework.fixture.FixtureServer;
+import com.test.framework.form.FormFiller;
+import com.test.framework.load.LoadGenerator;
+import com.test.framework.load.LoadProfile;
+import com.test.framework.load.LoadResult;
+import com.test.framework.pool.DriverPool;
+import com.test.framework.pool.DriverPoolConfig;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Replays the navigate, fill and submit flow of the Locator examples as
+ * synthetic load against demo.html, served in-process.
+ *
+ * Run with:
+ *   mvn exec:java -Dexec.mainClass=com.test.LoadExamples -Ddriver.backend=jvm
+ *       -Dload.sessions=4 -Dload.rate=5 -Dload.rampUpSeconds=10 -Dload.steadySeconds=30 -Dload.rampDownSeconds=10
+ *
+ * Sessions are headless unless -Dbrowser.profile=default. The report is
+ * written to -Dload.reportDir (default target/load-report).
+ */
+public class LoadExamples {
+
+    public static void main(String[] args) throws IOException {
+
+        DriverBackend backend = DriverBackend.fromSystemProperties();
+        LaunchProfile launchProfile = LaunchProfile.valueOf(
+                System.getProperty("browser.profile", "fast").toUpperCase(Locale.ROOT));
+        LoadProfile load = LoadProfile.fromSystemProperties();
+        Path reportDir = Paths.get(System.getProperty("load.reportDir", "target/load-report"));
+
+        try (FixtureServer server = FixtureServer.start("");
+             DriverPool pool = new DriverPool(backend.factory(launchProfile),
+                     DriverPoolConfig.fromSystemProperties().setMaxSize(load.getSessions()))) {
+            String demoUrl = server.url("demo.html");
+            System.out.println("🚀 Load against " + demoUrl + " on " + backend.name().toLowerCase(Locale.ROOT));
+
+            LoadResult result = new LoadGenerator(pool, load).run((driver, steps) -> {
+                Map<By, Object> form = new LinkedHashMap<>();
+                form.put(By.id("username"), "loaduser");
+                form.put(By.id("password"), "loadpassword");
+                form.put(By.name("fullname"), "Load User");
+                form.put(By.name("email"), "load@example.com");
+                form.put(By.id("country"), "uk");
+                form.put(By.id("female"), true);
+                form.put(By.id("reading"), true);
+                FormFiller filler = new FormFiller(driver);
+
+                steps.step("navigate", () -> driver.get(demoUrl));
+                steps.step("fill", () -> filler.fill(form));
+                steps.step("verify", () -> {
+                    Map<By, Object> mismatches = filler.verify(form);
+                    if (!mismatches.isEmpty()) {
+                        throw new IllegalStateException("Fields not filled: " + mismatches);
+                    }
+                });
+                steps.step("submit", () -> submit(driver));
+            });
+
+            result.print();
+            result.writeReport(reportDir);
+            System.out.println("📸 Load report written to " + reportDir.toAbsolutePath().resolve("report.html"));
+        }
+    }
+
+    private static void submit(WebDriver driver) {
+        driver.findElement(By.id("submit-btn")).click();
+        // The demo page confirms with an alert
+        try {
+            driver.switchTo().alert().accept();
+        } catch (NoAlertPresentException e) {
+            // Nothing to dismiss
+        }
+    }
+}
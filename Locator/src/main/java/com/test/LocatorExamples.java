@@ -1,17 +1,31 @@
 package com.test;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.test.framework.artifact.ArtifactWriter;
+import com.test.framework.artifact.FailureCapture;
+import com.test.framework.driver.DriverBackend;
+import com.test.framework.driver.LaunchProfile;
+import com.test.framework.fixture.FixtureServer;
+import com.test.framework.form.FormFiller;
+import com.test.framework.locator.BatchLocator;
+import com.test.framework.locator.CachingElementFinder;
+import com.test.framework.locator.LocatorRewriter;
+import com.test.framework.metrics.CommandMetrics;
+import com.test.framework.metrics.PageMetricsStore;
+import com.test.framework.wait.AdaptiveWait;
+import com.test.framework.wait.ObservedConditions;
+import com.test.framework.wait.ObserverWait;
+import com.test.framework.wait.PageConditions;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
-import java.io.File;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Java program to demonstrate all Selenium Locator strategies
@@ -19,40 +33,30 @@ import java.util.List;
  */
 public class LocatorExamples {
 
-    public static void main(String[] args) throws InterruptedException {
+    public static void main(String[] args) {
 
-        // WebDriverManager automatically downloads and sets up ChromeDriver
-        WebDriverManager.chromedriver().setup();
+        // Backend from -Ddriver.backend (chrome or jvm) and launch profile from -Dbrowser.profile (default or fast)
+        DriverBackend backend = DriverBackend.fromSystemProperties();
+        LaunchProfile profile = LaunchProfile.fromSystemProperties();
 
         // Create Chrome options
-        ChromeOptions options = new ChromeOptions();
+        ChromeOptions options = profile.chromeOptions();
         options.addArguments("--start-maximized");
         options.addArguments("--disable-notifications");
 
         // Create WebDriver instance
-        WebDriver driver = new ChromeDriver(options);
+        WebDriver driver = backend.launch(profile, options);
         WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        AdaptiveWait readiness = new AdaptiveWait(driver, Duration.ofSeconds(30));
 
         try {
-            // Load the demo HTML file
-            File htmlFile = new File("src/test/resources/demo.html");
-            if (!htmlFile.exists()) {
-                // Try alternative paths
-                htmlFile = new File("Locator/src/test/resources/demo.html");
-                if (!htmlFile.exists()) {
-                    htmlFile = new File("target/test-classes/demo.html");
-                }
-            }
+            // Load the demo HTML file from the in-process fixture server (served from the classpath)
+            String demoUrl = FixtureServer.shared().url("demo.html");
+            driver.get(demoUrl);
+            System.out.println("Loaded demo page from: " + demoUrl);
 
-            if (htmlFile.exists()) {
-                String filePath = htmlFile.getAbsolutePath();
-                driver.get("file://" + filePath);
-                System.out.println("Loaded HTML file from: " + filePath);
-            } else {
-                // If file not found, use a simple online page for demonstration
-                System.out.println("HTML file not found, using online demo page instead...");
-                driver.get("https://www.selenium.dev/selenium/web/web-form.html");
-            }
+            // Wait for the page to finish loading before locating anything
+            readiness.until(PageConditions.pageSettled(Duration.ofMillis(200)));
 
             System.out.println("=== Selenium Locator Examples ===\n");
 
@@ -89,10 +93,18 @@ public class LocatorExamples {
             // Demonstrate dynamic elements
             demonstrateDynamicElements(driver, wait);
 
+            // Demonstrate cached element lookups
+            demonstrateCachedLookups(driver, wait);
+
+            // Let handlers triggered by the last interactions finish updating the page
+            readiness.until(PageConditions.domQuiet(Duration.ofMillis(200)));
+
         } finally {
-            Thread.sleep(3000);
             driver.quit();
             System.out.println("\nBrowser closed successfully!");
+            CommandMetrics.printSummary();
+            LocatorRewriter.printSummary();
+            PageMetricsStore.printSummary();
         }
     }
 
@@ -104,14 +116,12 @@ public class LocatorExamples {
         System.out.println("------------------------");
 
         try {
-            // Find element by ID
-            WebElement usernameField = driver.findElement(By.id("username"));
-            usernameField.sendKeys("testuser");
-            System.out.println("✓ Found username field by ID and entered text");
-
-            WebElement passwordField = driver.findElement(By.id("password"));
-            passwordField.sendKeys("password123");
-            System.out.println("✓ Found password field by ID and entered text");
+            // Find fields by ID and fill them in one round trip
+            Map<By, Object> login = new LinkedHashMap<>();
+            login.put(By.id("username"), "testuser");
+            login.put(By.id("password"), "password123");
+            new FormFiller(driver).fill(login);
+            System.out.println("✓ Found username and password fields by ID and entered text");
 
             WebElement loginButton = driver.findElement(By.id("login-btn"));
             System.out.println("✓ Found login button by ID: " + loginButton.getText());
@@ -123,7 +133,7 @@ public class LocatorExamples {
             System.out.println("✓ Found main title by ID: " + mainTitle.getText());
 
         } catch (Exception e) {
-            System.out.println("✗ Error with ID locator: " + e.getMessage());
+            reportError(driver, "ID locator", e);
         }
         System.out.println();
     }
@@ -137,25 +147,20 @@ public class LocatorExamples {
         System.out.println("-------------------------");
 
         try {
-            // Find elements by name
-            WebElement fullnameField = driver.findElement(By.name("fullname"));
-            fullnameField.sendKeys("John Doe");
-            System.out.println("✓ Found fullname field by name and entered text");
-
-            WebElement emailField = driver.findElement(By.name("email"));
-            emailField.sendKeys("john.doe@example.com");
-            System.out.println("✓ Found email field by name and entered text");
-
-            WebElement messageField = driver.findElement(By.name("message"));
-            messageField.sendKeys("This is a test message");
-            System.out.println("✓ Found message field by name and entered text");
+            // Find fields by name and fill them in one round trip
+            Map<By, Object> contact = new LinkedHashMap<>();
+            contact.put(By.name("fullname"), "John Doe");
+            contact.put(By.name("email"), "john.doe@example.com");
+            contact.put(By.name("message"), "This is a test message");
+            new FormFiller(driver).fill(contact);
+            System.out.println("✓ Found fullname, email and message fields by name and entered text");
 
             // Find multiple elements with same name (like radio buttons)
             List<WebElement> genderOptions = driver.findElements(By.name("gender"));
             System.out.println("✓ Found " + genderOptions.size() + " gender radio buttons by name");
 
         } catch (Exception e) {
-            System.out.println("✗ Error with Name locator: " + e.getMessage());
+            reportError(driver, "Name locator", e);
         }
         System.out.println();
     }
@@ -184,7 +189,7 @@ public class LocatorExamples {
             System.out.println("✓ Found " + secondaryButtons.size() + " secondary buttons by class name");
 
         } catch (Exception e) {
-            System.out.println("✗ Error with Class Name locator: " + e.getMessage());
+            reportError(driver, "Class Name locator", e);
         }
         System.out.println();
     }
@@ -198,24 +203,18 @@ public class LocatorExamples {
         System.out.println("-----------------------------");
 
         try {
-            // Find elements by tag name
-            List<WebElement> paragraphs = driver.findElements(By.tagName("p"));
-            System.out.println("✓ Found " + paragraphs.size() + " paragraph elements by tag name");
+            // Count elements by tag name - all five locators resolved in one round trip
+            Map<By, Integer> counts = new BatchLocator(driver).count(Arrays.asList(
+                    By.tagName("p"), By.tagName("button"), By.tagName("input"), By.tagName("a"), By.tagName("h1")));
 
-            List<WebElement> buttons = driver.findElements(By.tagName("button"));
-            System.out.println("✓ Found " + buttons.size() + " button elements by tag name");
-
-            List<WebElement> inputs = driver.findElements(By.tagName("input"));
-            System.out.println("✓ Found " + inputs.size() + " input elements by tag name");
-
-            List<WebElement> links = driver.findElements(By.tagName("a"));
-            System.out.println("✓ Found " + links.size() + " link elements by tag name");
-
-            List<WebElement> headings = driver.findElements(By.tagName("h1"));
-            System.out.println("✓ Found " + headings.size() + " h1 elements by tag name");
+            System.out.println("✓ Found " + counts.get(By.tagName("p")) + " paragraph elements by tag name");
+            System.out.println("✓ Found " + counts.get(By.tagName("button")) + " button elements by tag name");
+            System.out.println("✓ Found " + counts.get(By.tagName("input")) + " input elements by tag name");
+            System.out.println("✓ Found " + counts.get(By.tagName("a")) + " link elements by tag name");
+            System.out.println("✓ Found " + counts.get(By.tagName("h1")) + " h1 elements by tag name");
 
         } catch (Exception e) {
-            System.out.println("✗ Error with Tag Name locator: " + e.getMessage());
+            reportError(driver, "Tag Name locator", e);
         }
         System.out.println();
     }
@@ -243,7 +242,7 @@ public class LocatorExamples {
             System.out.println("✓ Found GeeksForGeeks link by exact text: " + geeksLink.getAttribute("href"));
 
         } catch (Exception e) {
-            System.out.println("✗ Error with Link Text locator: " + e.getMessage());
+            reportError(driver, "Link Text locator", e);
         }
         System.out.println();
     }
@@ -271,7 +270,7 @@ public class LocatorExamples {
             System.out.println("✓ Found link containing 'GeeksForGeeks': " + geeksPartialLink.getText());
 
         } catch (Exception e) {
-            System.out.println("✗ Error with Partial Link Text locator: " + e.getMessage());
+            reportError(driver, "Partial Link Text locator", e);
         }
         System.out.println();
     }
@@ -305,7 +304,7 @@ public class LocatorExamples {
             System.out.println("✓ Found error message by compound class selector: " + errorMessage.getText());
 
         } catch (Exception e) {
-            System.out.println("✗ Error with CSS Selector locator: " + e.getMessage());
+            reportError(driver, "CSS Selector locator", e);
         }
         System.out.println();
     }
@@ -346,7 +345,7 @@ public class LocatorExamples {
             System.out.println("✓ Found specific table cell by XPath: " + cellData.getText());
 
         } catch (Exception e) {
-            System.out.println("✗ Error with XPath locator: " + e.getMessage());
+            reportError(driver, "XPath locator", e);
         }
         System.out.println();
     }
@@ -359,28 +358,26 @@ public class LocatorExamples {
         System.out.println("----------------------");
 
         try {
-            // Select dropdown
-            WebElement countrySelect = driver.findElement(By.id("country"));
-            countrySelect.click();
-            driver.findElement(By.xpath("//option[@value='us']")).click();
-            System.out.println("✓ Selected country from dropdown");
-
-            // Radio buttons
-            WebElement maleRadio = driver.findElement(By.id("male"));
-            maleRadio.click();
-            System.out.println("✓ Selected male radio button");
-
-            // Checkboxes
-            WebElement codingCheckbox = driver.findElement(By.id("coding"));
-            codingCheckbox.click();
-            System.out.println("✓ Selected coding checkbox");
-
-            WebElement readingCheckbox = driver.findElement(By.id("reading"));
-            readingCheckbox.click();
-            System.out.println("✓ Selected reading checkbox");
+            // Dropdown option, radio button and checkboxes in one round trip
+            Map<By, Object> form = new LinkedHashMap<>();
+            form.put(By.id("country"), "us");
+            form.put(By.id("male"), true);
+            form.put(By.id("coding"), true);
+            form.put(By.id("reading"), true);
+            FormFiller filler = new FormFiller(driver);
+            filler.fill(form);
+            System.out.println("✓ Selected country, male radio button, coding and reading checkboxes");
+
+            // Read every value back in one more call
+            Map<By, Object> mismatches = filler.verify(form);
+            if (mismatches.isEmpty()) {
+                System.out.println("✓ Verified " + form.size() + " form fields");
+            } else {
+                System.out.println("✗ Form fields with unexpected values: " + mismatches);
+            }
 
         } catch (Exception e) {
-            System.out.println("✗ Error with form elements: " + e.getMessage());
+            reportError(driver, "form elements", e);
         }
         System.out.println();
     }
@@ -404,7 +401,7 @@ public class LocatorExamples {
             System.out.println("✓ Found hidden text: " + hiddenText.getText());
 
         } catch (Exception e) {
-            System.out.println("✗ Error with hidden elements: " + e.getMessage());
+            reportError(driver, "hidden elements", e);
         }
         System.out.println();
     }
@@ -422,9 +419,9 @@ public class LocatorExamples {
             showDynamicButton.click();
             System.out.println("✓ Clicked button to show dynamic content");
 
-            // Wait for dynamic content to appear
-            WebElement dynamicContent = wait
-                    .until(ExpectedConditions.visibilityOfElementLocated(By.id("dynamic-content")));
+            // Wait for dynamic content to appear; the page reports the change instead of being polled
+            WebElement dynamicContent = new ObserverWait(driver, Duration.ofSeconds(10))
+                    .until(ObservedConditions.visibilityOfElementLocated(By.id("dynamic-content")));
             System.out.println("✓ Dynamic content appeared: " + dynamicContent.getText());
 
             // Find dynamic button
@@ -432,8 +429,45 @@ public class LocatorExamples {
             System.out.println("✓ Found dynamic button: " + dynamicButton.getText());
 
         } catch (Exception e) {
-            System.out.println("✗ Error with dynamic elements: " + e.getMessage());
+            reportError(driver, "dynamic elements", e);
         }
         System.out.println();
     }
-}
\ No newline at end of file
+
+    /**
+     * Demonstrate cached element lookups - repeated lookups of the same locator
+     * on an unchanged page are served from the cache without a browser round trip
+     */
+    public static void demonstrateCachedLookups(WebDriver driver, WebDriverWait wait) {
+        System.out.println("Cached Lookup Examples:");
+        System.out.println("----------------------");
+
+        try {
+            CachingElementFinder finder = new CachingElementFinder(driver);
+
+            for (int i = 0; i < 3; i++) {
+                WebElement usernameField = finder.findElement(By.id("username"));
+                WebElement countrySelect = finder.findElement(By.id("country"));
+                List<WebElement> highlights = finder.findElements(By.className("highlight"));
+                System.out.println("✓ Pass " + (i + 1) + ": username='" + usernameField.getAttribute("value")
+                        + "', country='" + countrySelect.getAttribute("value")
+                        + "', " + highlights.size() + " highlight elements");
+            }
+            System.out.println("✓ Cache statistics: " + finder);
+
+        } catch (Exception e) {
+            reportError(driver, "cached lookups", e);
+        }
+        System.out.println();
+    }
+
+    /**
+     * Prints the error and saves screenshot, page source and console log for
+     * it in the background (target/artifacts)
+     */
+    private static void reportError(WebDriver driver, String example, Exception e) {
+        System.out.println("✗ Error with " + example + ": " + e.getMessage());
+        int queued = FailureCapture.capture(driver, "LocatorExamples." + example, e, ArtifactWriter.shared());
+        System.out.println("📸 Queued " + queued + " artifacts in " + ArtifactWriter.shared().getDirectory());
+    }
+}
@@ -0,0 +1,13 @@
+package com.test.scenario;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * One independent browser flow, run by {@link ScenarioRunner} on a borrowed
+ * driver. A flow fails by throwing; it should not quit the driver.
+ */
+@FunctionalInterface
+public interface Flow {
+
+    void run(WebDriver driver) throws Exception;
+}
@@ -0,0 +1,112 @@
+package com.test.scenario;
+
+import com.test.framework.driver.DriverBackend;
+import com.test.framework.driver.LaunchProfile;
+import com.test.framework.fixture.FixtureServer;
+import com.test.framework.form.FormFiller;
+import com.test.framework.pool.DriverPool;
+import com.test.framework.wait.ObservedConditions;
+import com.test.framework.wait.ObserverWait;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the Locator demo flows thousands of times against demo.html, each
+ * flow on its own virtual thread and sharing a bounded browser pool.
+ *
+ * -Dscenarios (default 1000) flows in total, -Ddriver.pool.size browsers,
+ * -Dscenario.timeoutSeconds (default 30) per flow.
+ */
+public class ScenarioExamples {
+
+    public static void main(String[] args) {
+
+        // Backend from -Ddriver.backend (chrome, jvm or daemon) and launch profile from -Dbrowser.profile
+        DriverBackend backend = DriverBackend.fromSystemProperties();
+        LaunchProfile profile = LaunchProfile.fromSystemProperties();
+        int scenarios = Integer.getInteger("scenarios", 1000);
+        Duration timeout = Duration.ofSeconds(Long.getLong("scenario.timeoutSeconds", 30));
+
+        try (FixtureServer server = FixtureServer.start("")) {
+            run(backend, profile, scenarios, timeout, server.url("demo.html"));
+        }
+    }
+
+    private static void run(DriverBackend backend, LaunchProfile profile, int scenarios, Duration timeout,
+            String demoUrl) {
+        Map<String, Flow> flows = new LinkedHashMap<>();
+        flows.put("login", driver -> login(driver, demoUrl));
+        flows.put("form", driver -> fillForm(driver, demoUrl));
+        flows.put("dynamic", driver -> showDynamicContent(driver, demoUrl));
+        flows.put("table", driver -> readTable(driver, demoUrl));
+        List<String> names = List.copyOf(flows.keySet());
+
+        System.out.println("🚀 Running " + scenarios + " scenarios on " + backend.name().toLowerCase()
+                + " against " + demoUrl);
+        try (DriverPool pool = new DriverPool(backend.factory(profile));
+             ScenarioRunner runner = new ScenarioRunner(pool, timeout, Duration.ofMinutes(30))) {
+            // Ctrl-C stops the run but still prints what finished
+            Thread hook = new Thread(runner::cancel, "scenario-cancel");
+            Runtime.getRuntime().addShutdownHook(hook);
+
+            for (int i = 0; i < scenarios; i++) {
+                String name = names.get(i % names.size());
+                runner.submit(name, flows.get(name));
+            }
+            runner.awaitCompletion().print();
+            System.out.println("Browsers launched: " + pool.getCreatedCount()
+                    + ", reused: " + pool.getReusedCount());
+            Runtime.getRuntime().removeShutdownHook(hook);
+        }
+    }
+
+    private static void login(WebDriver driver, String demoUrl) {
+        driver.get(demoUrl);
+        Map<By, Object> login = new LinkedHashMap<>();
+        login.put(By.id("username"), "testuser");
+        login.put(By.id("password"), "testpassword");
+        FormFiller filler = new FormFiller(driver);
+        filler.fill(login);
+        check(filler.verify(login).isEmpty(), "login fields not filled");
+    }
+
+    private static void fillForm(WebDriver driver, String demoUrl) {
+        driver.get(demoUrl);
+        Map<By, Object> form = new LinkedHashMap<>();
+        form.put(By.id("country"), "ca");
+        form.put(By.id("female"), true);
+        form.put(By.id("gaming"), true);
+        FormFiller filler = new FormFiller(driver);
+        filler.fill(form);
+        Map<By, Object> mismatches = filler.verify(form);
+        check(mismatches.isEmpty(), "form fields differ: " + mismatches);
+    }
+
+    private static void showDynamicContent(WebDriver driver, String demoUrl) {
+        driver.get(demoUrl);
+        driver.findElement(By.id("show-dynamic")).click();
+        WebElement content = new ObserverWait(driver, Duration.ofSeconds(10))
+                .until(ObservedConditions.visibilityOfElementLocated(By.id("dynamic-content")));
+        check(content.getText().contains("loaded dynamically"), "unexpected dynamic content");
+    }
+
+    private static void readTable(WebDriver driver, String demoUrl) {
+        driver.get(demoUrl);
+        List<WebElement> rows = driver.findElements(By.cssSelector(".xpath-table tbody tr"));
+        check(rows.size() == 3, "expected 3 table rows, found " + rows.size());
+        String city = driver.findElement(By.xpath("//td[text()='Jane Smith']/following-sibling::td[2]")).getText();
+        check("Los Angeles".equals(city), "unexpected city " + city);
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+}
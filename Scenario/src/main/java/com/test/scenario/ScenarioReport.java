@@ -0,0 +1,108 @@
+package com.test.scenario;
+
+import com.test.framework.metrics.LatencyHistogram;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Aggregate outcome of a {@link ScenarioRunner} run: counts per status,
+ * run-time percentiles per flow, time spent waiting for a browser and
+ * overall throughput. Safe to update from many threads.
+ */
+public final class ScenarioReport {
+
+    public enum Status {
+        PASSED, FAILED, TIMED_OUT, CANCELLED
+    }
+
+    private final Map<String, FlowStats> flows = new ConcurrentSkipListMap<>();
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger peakRunning = new AtomicInteger();
+    private volatile long wallNanos;
+
+    void record(String flow, Status status, long waitNanos, long runNanos) {
+        FlowStats stats = flows.computeIfAbsent(flow, name -> new FlowStats());
+        stats.counts.incrementAndGet(status.ordinal());
+        if (status != Status.CANCELLED) {
+            queueWait.recordNanos(waitNanos);
+            stats.runTime.recordNanos(runNanos);
+        }
+    }
+
+    void started() {
+        peakRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+    }
+
+    void finished() {
+        running.decrementAndGet();
+    }
+
+    void setWallNanos(long wallNanos) {
+        this.wallNanos = wallNanos;
+    }
+
+    public long count(Status status) {
+        long count = 0;
+        for (FlowStats stats : flows.values()) {
+            count += stats.counts.get(status.ordinal());
+        }
+        return count;
+    }
+
+    public long getTotal() {
+        long total = 0;
+        for (Status status : Status.values()) {
+            total += count(status);
+        }
+        return total;
+    }
+
+    /**
+     * Most scenarios that held a browser at the same time
+     */
+    public int getPeakConcurrency() {
+        return peakRunning.get();
+    }
+
+    public double getWallSeconds() {
+        return wallNanos / 1e9;
+    }
+
+    /**
+     * Scenarios that ran to an outcome (anything but cancelled) per second of
+     * wall time
+     */
+    public double getThroughput() {
+        double seconds = getWallSeconds();
+        return seconds > 0 ? (getTotal() - count(Status.CANCELLED)) / seconds : 0;
+    }
+
+    public void print() {
+        System.out.println("📊 Scenario report");
+        System.out.printf(Locale.ROOT, "  %d scenarios in %.2f s: %.1f scenarios/s, peak %d concurrent%n",
+                getTotal(), getWallSeconds(), getThroughput(), getPeakConcurrency());
+        System.out.printf(Locale.ROOT, "  ✓ %d passed  ✗ %d failed  ⏱ %d timed out  %d cancelled%n",
+                count(Status.PASSED), count(Status.FAILED), count(Status.TIMED_OUT), count(Status.CANCELLED));
+        System.out.printf(Locale.ROOT, "  Waiting for a browser (ms): p50=%.2f p95=%.2f max=%.2f%n",
+                queueWait.percentileMicros(50) / 1000.0, queueWait.percentileMicros(95) / 1000.0,
+                queueWait.getMaxMicros() / 1000.0);
+        System.out.println("  Run time per flow (ms):");
+        flows.forEach((flow, stats) -> System.out.printf(Locale.ROOT,
+                "    %-16s count=%-6d failed=%-4d p50=%8.2f p95=%8.2f p99=%8.2f max=%8.2f%n",
+                flow, stats.runTime.getCount(),
+                stats.counts.get(Status.FAILED.ordinal()) + stats.counts.get(Status.TIMED_OUT.ordinal()),
+                stats.runTime.percentileMicros(50) / 1000.0, stats.runTime.percentileMicros(95) / 1000.0,
+                stats.runTime.percentileMicros(99) / 1000.0, stats.runTime.getMaxMicros() / 1000.0));
+    }
+
+    private static final class FlowStats {
+
+        private final AtomicLongArray counts = new AtomicLongArray(Status.values().length);
+        private final LatencyHistogram runTime = new LatencyHistogram();
+    }
+}
@@ -0,0 +1,190 @@
+package com.test.scenario;
+
+import com.test.framework.pool.DriverPool;
+import com.test.scenario.ScenarioReport.Status;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs many independent flows concurrently, one virtual thread per scenario.
+ *
+ * Concurrency is bounded by the {@link DriverPool}: every scenario parks its
+ * virtual thread on the pool's semaphore until a browser is free, so
+ * thousands of queued scenarios cost a few KB each instead of a platform
+ * thread, and a thread blocked on WebDriver I/O releases its carrier.
+ *
+ * Each scenario gets {@code scenarioTimeout} from the moment it holds a
+ * browser. When it expires the scenario's thread is interrupted, the outcome
+ * is recorded as timed out and the browser is quit rather than returned to
+ * the pool. {@link #cancel()} stops everything still queued or running.
+ *
+ * Run with -Djdk.tracePinnedThreads=short to spot code that still pins a
+ * carrier thread while blocking.
+ */
+public class ScenarioRunner implements AutoCloseable {
+
+    private static final int RUNNING = 0;
+    private static final int DONE = 1;
+    private static final int EXPIRED = 2;
+    private static final int INTERRUPTED = 3;
+    private static final int MAX_PRINTED_FAILURES = 10;
+
+    private final DriverPool pool;
+    private final Duration scenarioTimeout;
+    private final Duration borrowTimeout;
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("scenario-", 0).factory());
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scenario-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ScenarioReport report = new ScenarioReport();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicInteger printedFailures = new AtomicInteger();
+    private final long startNanos = System.nanoTime();
+    private volatile boolean cancelled;
+
+    /**
+     * @param borrowTimeout how long a scenario may queue for a browser before
+     *                      it fails; with thousands of scenarios and a small
+     *                      pool this is most of the run
+     */
+    public ScenarioRunner(DriverPool pool, Duration scenarioTimeout, Duration borrowTimeout) {
+        this.pool = pool;
+        this.scenarioTimeout = scenarioTimeout;
+        this.borrowTimeout = borrowTimeout;
+    }
+
+    public void submit(String name, Flow flow) {
+        submitted.incrementAndGet();
+        try {
+            executor.execute(() -> execute(name, flow));
+        } catch (RejectedExecutionException e) {
+            report.record(name, Status.CANCELLED, 0, 0);
+        }
+    }
+
+    /**
+     * Stops accepting scenarios and waits for the submitted ones to finish
+     */
+    public ScenarioReport awaitCompletion() {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                // Keep waiting, cancel() interrupts from another thread
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel();
+        }
+        report.setWallNanos(System.nanoTime() - startNanos);
+        // Scenarios cancelled before their thread started never recorded an outcome
+        for (long missing = submitted.get() - report.getTotal(); missing > 0; missing--) {
+            report.record("(not started)", Status.CANCELLED, 0, 0);
+        }
+        return report;
+    }
+
+    /**
+     * Interrupts running scenarios and drops queued ones
+     */
+    public void cancel() {
+        cancelled = true;
+        executor.shutdownNow();
+    }
+
+    public ScenarioReport getReport() {
+        return report;
+    }
+
+    @Override
+    public void close() {
+        if (!executor.isTerminated()) {
+            cancel();
+        }
+        watchdog.shutdownNow();
+    }
+
+    private void execute(String name, Flow flow) {
+        long queuedAt = System.nanoTime();
+        WebDriver driver;
+        try {
+            if (cancelled) {
+                throw new IllegalStateException("Cancelled");
+            }
+            driver = pool.borrow(borrowTimeout);
+        } catch (RuntimeException e) {
+            Status status = cancelled ? Status.CANCELLED : Status.FAILED;
+            report.record(name, status, System.nanoTime() - queuedAt, 0);
+            if (status == Status.FAILED) {
+                printFailure(name, e);
+            }
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        report.started();
+        Thread scenarioThread = Thread.currentThread();
+        AtomicInteger state = new AtomicInteger(RUNNING);
+        ScheduledFuture<?> timer = watchdog.schedule(() -> {
+            if (state.compareAndSet(RUNNING, EXPIRED)) {
+                scenarioThread.interrupt();
+                state.set(INTERRUPTED);
+            }
+        }, scenarioTimeout.toNanos(), TimeUnit.NANOSECONDS);
+
+        Status status;
+        Throwable error = null;
+        try {
+            flow.run(driver);
+            status = Status.PASSED;
+        } catch (Throwable e) {
+            error = e;
+            status = Status.FAILED;
+        } finally {
+            timer.cancel(false);
+            report.finished();
+        }
+        if (!state.compareAndSet(RUNNING, DONE)) {
+            // The watchdog won: wait until its interrupt has landed, then clear it
+            while (state.get() != INTERRUPTED) {
+                Thread.onSpinWait();
+            }
+            status = Status.TIMED_OUT;
+        } else if (cancelled && status == Status.FAILED) {
+            status = Status.CANCELLED;
+        }
+        Thread.interrupted();
+        long runNanos = System.nanoTime() - startedAt;
+        report.record(name, status, startedAt - queuedAt, runNanos);
+
+        if (status == Status.FAILED) {
+            printFailure(name, error);
+        }
+        // A timed out or cancelled session may still be mid-command, don't hand it to the next scenario
+        if (status == Status.PASSED || status == Status.FAILED) {
+            pool.release(driver);
+        } else {
+            pool.invalidate(driver);
+        }
+    }
+
+    private void printFailure(String name, Throwable error) {
+        int printed = printedFailures.incrementAndGet();
+        if (printed <= MAX_PRINTED_FAILURES) {
+            System.out.println("✗ Scenario " + name + " failed: " + error);
+        } else if (printed == MAX_PRINTED_FAILURES + 1) {
+            System.out.println("✗ Further failures are only counted");
+        }
+    }
+}
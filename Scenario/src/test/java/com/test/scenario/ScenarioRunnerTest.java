@@ -0,0 +1,140 @@
+package com.test.scenario;
+
+import com.test.framework.pool.DriverPool;
+import com.test.framework.pool.DriverPoolConfig;
+import com.test.scenario.ScenarioReport.Status;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcomes and driver hand-back of scenarios, on a stub pool without a
+ * browser
+ */
+public class ScenarioRunnerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * Hands out placeholder drivers and remembers how each one came back
+     */
+    static class StubPool extends DriverPool {
+
+        private final Semaphore permits;
+        final List<WebDriver> borrowed = Collections.synchronizedList(new ArrayList<>());
+        final List<WebDriver> released = Collections.synchronizedList(new ArrayList<>());
+        final List<WebDriver> invalidated = Collections.synchronizedList(new ArrayList<>());
+
+        StubPool(int size) {
+            super(StubPool::stubDriver, new DriverPoolConfig().setMaxSize(size));
+            this.permits = new Semaphore(size, true);
+        }
+
+        @Override
+        public WebDriver borrow(Duration timeout) {
+            try {
+                if (!permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    throw new IllegalStateException("Timed out waiting for a driver");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a driver", e);
+            }
+            WebDriver driver = stubDriver();
+            borrowed.add(driver);
+            return driver;
+        }
+
+        @Override
+        public void release(WebDriver driver) {
+            released.add(driver);
+            permits.release();
+        }
+
+        @Override
+        public void invalidate(WebDriver driver) {
+            invalidated.add(driver);
+            permits.release();
+        }
+
+        private static WebDriver stubDriver() {
+            return (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(),
+                    new Class<?>[]{WebDriver.class}, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "equals":
+                                return proxy == args[0];
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "toString":
+                                return "stub driver";
+                            default:
+                                return null;
+                        }
+                    });
+        }
+    }
+
+    @Test
+    public void passingFlowReleasesItsDriver() {
+        StubPool pool = new StubPool(1);
+        ScenarioReport report;
+        try (ScenarioRunner runner = new ScenarioRunner(pool, TIMEOUT, TIMEOUT)) {
+            runner.submit("pass", driver -> { });
+            report = runner.awaitCompletion();
+        }
+
+        Assert.assertEquals(report.count(Status.PASSED), 1);
+        Assert.assertEquals(pool.released, pool.borrowed);
+        Assert.assertTrue(pool.invalidated.isEmpty());
+    }
+
+    @Test
+    public void flowOverItsTimeoutIsTimedOutAndItsDriverInvalidated() {
+        StubPool pool = new StubPool(1);
+        ScenarioReport report;
+        try (ScenarioRunner runner = new ScenarioRunner(pool, Duration.ofMillis(100), TIMEOUT)) {
+            runner.submit("slow", driver -> Thread.sleep(TIMEOUT.toMillis()));
+            report = runner.awaitCompletion();
+        }
+
+        Assert.assertEquals(report.count(Status.TIMED_OUT), 1);
+        Assert.assertEquals(report.getTotal(), 1);
+        Assert.assertEquals(pool.invalidated, pool.borrowed);
+        Assert.assertTrue(pool.released.isEmpty());
+    }
+
+    @Test
+    public void cancelWithQueuedScenariosCancelsEveryOne() throws InterruptedException {
+        StubPool pool = new StubPool(1);
+        CountDownLatch running = new CountDownLatch(1);
+        int submitted = 50;
+        ScenarioReport report;
+        try (ScenarioRunner runner = new ScenarioRunner(pool, TIMEOUT, TIMEOUT)) {
+            for (int i = 0; i < submitted; i++) {
+                runner.submit("blocking", driver -> {
+                    running.countDown();
+                    Thread.sleep(TIMEOUT.toMillis());
+                });
+            }
+            Assert.assertTrue(running.await(10, TimeUnit.SECONDS), "first scenario started");
+            runner.cancel();
+            report = runner.awaitCompletion();
+        }
+
+        Assert.assertEquals(report.count(Status.CANCELLED), submitted);
+        Assert.assertEquals(report.getTotal(), submitted);
+        // Interrupted mid-flow, so no browser goes back to the pool
+        Assert.assertFalse(pool.borrowed.isEmpty());
+        Assert.assertEquals(pool.invalidated, pool.borrowed);
+        Assert.assertTrue(pool.released.isEmpty());
+    }
+}
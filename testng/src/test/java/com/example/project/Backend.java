@@ -0,0 +1,19 @@
+package com.example.project;
+
+import com.test.framework.driver.DriverBackend;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a test method or class on the given driver backend instead of the
+ * suite default (-Ddriver.backend). A method annotation wins over the class.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface Backend {
+
+    DriverBackend value();
+}
@@ -1,41 +1,162 @@
 package com.example.project;
 
+import com.example.project.data.StreamingRowListener;
+import com.example.project.sharding.ShardListener;
+import com.test.framework.driver.DriverBackend;
+import com.test.framework.driver.LaunchProfile;
+import com.test.framework.fixture.FixtureServer;
+import com.test.framework.metrics.CommandMetrics;
+import com.test.framework.metrics.PageMetricsStore;
+import com.test.framework.pool.DriverPool;
+import org.openqa.selenium.WebDriver;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
+import org.testng.annotations.Listeners;
 
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Base class for all tests. Safe to run with parallel="methods" or
+ * parallel="classes": each worker thread gets its own driver, and the suite
+ * level pool is shared by every thread. Tests run on the -Ddriver.backend
+ * default unless annotated with {@link Backend}. Failures are captured to
+ * target/artifacts by {@link FailureArtifactListener}; {@link ShardListener}
+ * records test durations and runs only this JVM's shard when sharding;
+ * {@link StreamingRowListener} paces streaming data providers.
+ */
+@Listeners({FailureArtifactListener.class, ShardListener.class, StreamingRowListener.class})
 public class BaseTest {
 
-    @BeforeSuite
+    // Shared by every test class in the suite so browsers are launched once per pool slot,
+    // one pool per backend actually used
+    private static final Map<DriverBackend, DriverPool> POOLS = new ConcurrentHashMap<>();
+
+    // With parallel="methods" several threads run methods of the same instance at once
+    private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+    private static final ThreadLocal<DriverBackend> BACKEND = new ThreadLocal<>();
+
+    @BeforeSuite(alwaysRun = true)
     public void beforeSuite() {
         System.out.println("🚀 BeforeSuite: Setup before all test classes in the suite");
+        System.out.println("🚀 Default driver backend: " + DriverBackend.fromSystemProperties());
+        // One fixture server for the whole suite, serving test pages from the classpath
+        System.out.println("🚀 Fixture server: " + FixtureServer.shared().url(""));
     }
 
-    @BeforeClass
+    @BeforeClass(alwaysRun = true)
     public void beforeClass() {
-        System.out.println("📦 BeforeClass: Setup before all test methods in this class");
+        System.out.println("📦 BeforeClass: Setup before all test methods in this class ["
+                + Thread.currentThread().getName() + "]");
+    }
+
+    @BeforeMethod(alwaysRun = true)
+    public void setUp(Method method) {
+        System.out.println("🔧 BeforeMethod: Setup before each test method ["
+                + Thread.currentThread().getName() + "]");
+        DRIVER.remove();
+        BACKEND.set(backendFor(method));
+        // Attribute command latencies recorded on this thread to the running test
+        CommandMetrics.setCurrentTest(method.getDeclaringClass().getSimpleName() + "." + method.getName());
+    }
+
+    /**
+     * Borrows a browser session for the current thread on first use in a test
+     * method. Tests that never touch the browser don't pay for one.
+     */
+    protected WebDriver getDriver() {
+        WebDriver driver = DRIVER.get();
+        if (driver == null) {
+            driver = pool(getBackend()).borrow();
+            DRIVER.set(driver);
+        }
+        return driver;
+    }
+
+    /**
+     * Driver the current thread borrowed for its running test, or null if the
+     * test never used one
+     */
+    static WebDriver currentDriver() {
+        return DRIVER.get();
+    }
+
+    /**
+     * Backend of the running test: its {@link Backend} annotation, else the
+     * suite default
+     */
+    protected DriverBackend getBackend() {
+        DriverBackend backend = BACKEND.get();
+        return backend != null ? backend : DriverBackend.fromSystemProperties();
+    }
+
+    private static DriverBackend backendFor(Method method) {
+        Backend backend = method.getAnnotation(Backend.class);
+        if (backend == null) {
+            backend = method.getDeclaringClass().getAnnotation(Backend.class);
+        }
+        return backend != null ? backend.value() : DriverBackend.fromSystemProperties();
+    }
+
+    private static DriverPool pool(DriverBackend backend) {
+        return POOLS.computeIfAbsent(backend,
+                b -> new DriverPool(b.factory(LaunchProfile.fromSystemProperties())));
     }
 
-    @BeforeMethod
-    public void setUp() {
-        System.out.println("🔧 BeforeMethod: Setup before each test method");
+    /**
+     * URL of a test page served from the classpath by the suite's fixture server
+     */
+    protected String fixtureUrl(String path) {
+        return FixtureServer.shared().url(path);
     }
 
-    @AfterMethod
+    @AfterMethod(alwaysRun = true)
     public void tearDown() {
-        System.out.println("🧹 AfterMethod: Cleanup after each test method");
+        System.out.println("🧹 AfterMethod: Cleanup after each test method ["
+                + Thread.currentThread().getName() + "]");
+        WebDriver driver = DRIVER.get();
+        if (driver != null) {
+            DRIVER.remove();
+            pool(getBackend()).release(driver);
+        }
+        BACKEND.remove();
+        CommandMetrics.setCurrentTest(null);
     }
 
-    @AfterClass
+    @AfterClass(alwaysRun = true)
     public void afterClass() {
-        System.out.println("📦 AfterClass: Cleanup after all test methods in this class");
+        System.out.println("📦 AfterClass: Cleanup after all test methods in this class ["
+                + Thread.currentThread().getName() + "]");
     }
 
-    @AfterSuite
+    @AfterSuite(alwaysRun = true)
     public void afterSuite() {
         System.out.println("🚀 AfterSuite: Cleanup after all test classes in the suite");
+        POOLS.forEach((backend, pool) -> {
+            System.out.println("🚀 Driver pool (" + backend + "): " + pool.getCreatedCount() + " launched, "
+                    + pool.getReusedCount() + " reused");
+            pool.close();
+        });
+        POOLS.clear();
+        try {
+            CommandMetrics.writeReport(Paths.get("target", "command-latency.csv"));
+        } catch (IOException e) {
+            System.out.println("🚀 Could not write command latency report: " + e.getMessage());
+        }
+        if (!PageMetricsStore.medians().isEmpty()) {
+            PageMetricsStore.printSummary();
+            try {
+                PageMetricsStore.writeReport(Paths.get("target", "page-metrics.csv"));
+            } catch (IOException e) {
+                System.out.println("🚀 Could not write page metrics report: " + e.getMessage());
+            }
+        }
     }
 }
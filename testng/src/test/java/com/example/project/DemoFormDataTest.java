@@ -0,0 +1,60 @@
+package com.example.project;
+
+import com.example.project.data.FormEntry;
+import com.example.project.data.StreamingRows;
+import com.test.framework.data.RowStream;
+import com.test.framework.driver.DriverBackend;
+import com.test.framework.form.FormFiller;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Drives the demo.html form from data files, one test invocation per row.
+ * Rows are streamed, so -Dform.data=/path/to/rows.csv (or .jsonl) can point
+ * the CSV test at a file of any size.
+ */
+@Backend(DriverBackend.JVM)
+public class DemoFormDataTest extends BaseTest {
+
+    @DataProvider(name = "csvRows", parallel = true)
+    public Iterator<Object[]> csvRows(ITestContext context) {
+        String file = System.getProperty("form.data");
+        RowStream rows = file != null ? RowStream.open(Paths.get(file)) : RowStream.resource("data/demo-form.csv");
+        return StreamingRows.of(rows, FormEntry::from, context);
+    }
+
+    @DataProvider(name = "jsonlRows", parallel = true)
+    public Iterator<Object[]> jsonlRows(ITestContext context) {
+        return StreamingRows.of(RowStream.resource("data/demo-form.jsonl"), FormEntry::from, context);
+    }
+
+    @Test(dataProvider = "csvRows")
+    public void formAcceptsCsvRow(FormEntry entry) {
+        fillAndVerify(entry);
+    }
+
+    @Test(dataProvider = "jsonlRows")
+    public void formAcceptsJsonlRow(FormEntry entry) {
+        fillAndVerify(entry);
+    }
+
+    private void fillAndVerify(FormEntry entry) {
+        WebDriver driver = getDriver();
+        driver.get(fixtureUrl("demo.html"));
+
+        Map<By, Object> values = entry.toFormValues();
+        FormFiller filler = new FormFiller(driver);
+        filler.fill(values);
+
+        Assert.assertEquals(filler.verify(values), Map.of(), "Fields differing for " + entry);
+        System.out.println("✅ Form filled from " + entry + " on " + getBackend() + " backend");
+    }
+}
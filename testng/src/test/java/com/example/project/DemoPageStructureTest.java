@@ -0,0 +1,163 @@
+package com.example.project;
+
+import com.test.framework.content.PageSnapshot;
+import com.test.framework.content.PageSourceReader;
+import com.test.framework.driver.DriverBackend;
+import com.test.framework.form.FormFiller;
+import com.test.framework.locator.BatchLocator;
+import com.test.framework.locator.LocatorCost;
+import com.test.framework.locator.XPathToCss;
+import com.test.framework.metrics.PageMetrics;
+import com.test.framework.wait.ObservedConditions;
+import com.test.framework.wait.ObserverWait;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.Select;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Structural checks of demo.html. They need no real rendering, so they run on
+ * the in-JVM backend without launching a browser.
+ */
+@Backend(DriverBackend.JVM)
+public class DemoPageStructureTest extends BaseTest {
+
+    @Test
+    public void locatorsFindDemoSections() {
+        WebDriver driver = getDriver();
+        driver.get(fixtureUrl("demo.html"));
+
+        Map<By, Integer> counts = new BatchLocator(driver).count(List.of(
+                By.id("username"),
+                By.name("fullname"),
+                By.className("highlight"),
+                By.cssSelector(".css-list .list-item"),
+                By.xpath("//button[@data-testid='xpath-button']")));
+
+        Assert.assertEquals(counts.get(By.id("username")), Integer.valueOf(1));
+        Assert.assertEquals(counts.get(By.name("fullname")), Integer.valueOf(1));
+        Assert.assertEquals(counts.get(By.className("highlight")), Integer.valueOf(3));
+        Assert.assertEquals(counts.get(By.cssSelector(".css-list .list-item")), Integer.valueOf(3));
+        Assert.assertEquals(counts.get(By.xpath("//button[@data-testid='xpath-button']")), Integer.valueOf(1));
+        System.out.println("✅ Demo page structure verified on " + getBackend() + " backend");
+    }
+
+    @Test
+    public void xpathRewritesFindSameElements() {
+        WebDriver driver = getDriver();
+        driver.get(fixtureUrl("demo.html"));
+
+        List<By> xpaths = List.of(
+                By.xpath("//input[@data-testid='xpath-input']"),
+                By.xpath("//button[@data-testid='xpath-button']"),
+                By.xpath("//table[@class='xpath-table']//tr"),
+                By.xpath("//table[@class='xpath-table']//tr[2]/td[1]"),
+                By.xpath("//input[@id='username']"),
+                By.xpath("//ul[contains(@class,'list')]/li[last()]"));
+        for (By xpath : xpaths) {
+            By rewritten = XPathToCss.rewrite(xpath);
+            Assert.assertNotNull(rewritten, "No rewrite for " + xpath);
+            Assert.assertTrue(LocatorCost.of(rewritten).compareTo(LocatorCost.of(xpath)) < 0);
+            Assert.assertEquals(describe(driver.findElements(rewritten)), describe(driver.findElements(xpath)),
+                    rewritten + " differs from " + xpath);
+        }
+        System.out.println("✅ XPath rewrites verified on " + getBackend() + " backend");
+    }
+
+    @Test
+    public void pageMetricsReadFromNavigationTiming() {
+        WebDriver driver = getDriver();
+        String url = fixtureUrl("demo.html");
+        driver.get(url);
+
+        PageMetrics metrics = PageMetrics.collect(driver, url);
+        Assert.assertNotNull(metrics);
+        Assert.assertNotNull(metrics.get(PageMetrics.Metric.DOM_CONTENT_LOADED), "No timing in " + metrics);
+        System.out.println("✅ Page metrics read on " + getBackend() + " backend: " + metrics);
+    }
+
+    @Test
+    public void formAcceptsInput() {
+        WebDriver driver = getDriver();
+        driver.get(fixtureUrl("demo.html"));
+
+        WebElement username = driver.findElement(By.id("username"));
+        username.sendKeys("testuser");
+        driver.findElement(By.id("coding")).click();
+
+        Assert.assertEquals(username.getAttribute("value"), "testuser");
+        Assert.assertTrue(driver.findElement(By.id("coding")).isSelected());
+        System.out.println("✅ Form input verified on " + getBackend() + " backend");
+    }
+
+    @Test
+    public void formFillerSetsAndVerifiesFields() {
+        WebDriver driver = getDriver();
+        driver.get(fixtureUrl("demo.html"));
+
+        Map<By, Object> values = new LinkedHashMap<>();
+        values.put(By.name("fullname"), "John Doe");
+        values.put(By.id("country"), "Canada");
+        values.put(By.id("female"), true);
+        values.put(By.id("gaming"), true);
+        FormFiller filler = new FormFiller(driver);
+        filler.fill(values);
+
+        Assert.assertTrue(filler.verify(values).isEmpty());
+        Select country = new Select(driver.findElement(By.id("country")));
+        Assert.assertEquals(country.getFirstSelectedOption().getAttribute("value"), "ca");
+        values.put(By.id("gaming"), false);
+        Assert.assertEquals(filler.verify(values), Map.of(By.id("gaming"), true));
+        System.out.println("✅ Form filled and verified in one call each on " + getBackend() + " backend");
+    }
+
+    @Test
+    public void observerWaitReturnsWhenContentAppears() {
+        WebDriver driver = getDriver();
+        driver.get(fixtureUrl("demo.html"));
+        ObserverWait wait = new ObserverWait(driver, Duration.ofSeconds(5));
+
+        driver.findElement(By.id("show-dynamic")).click();
+        WebElement content = wait.until(ObservedConditions.visibilityOfElementLocated(By.id("dynamic-content")));
+
+        Assert.assertTrue(content.isDisplayed());
+        Assert.assertTrue(wait.until(ObservedConditions.textToBePresentInElementLocated(
+                By.id("dynamic-content"), "loaded dynamically")));
+        System.out.println("✅ Dynamic content observed on " + getBackend() + " backend");
+    }
+
+    @Test
+    public void pageSourceStreamsInChunks() {
+        WebDriver driver = getDriver();
+        driver.get(fixtureUrl("demo.html"));
+
+        PageSnapshot chunked = new PageSourceReader(driver).chunkSize(1000).find("xpath-table").find("absent").read();
+        PageSnapshot whole = new PageSourceReader(driver).read();
+
+        Assert.assertTrue(chunked.getChunkCount() > 1);
+        Assert.assertEquals(whole.getChunkCount(), 1);
+        Assert.assertEquals(chunked.getLength(), whole.getLength());
+        Assert.assertEquals(chunked.getSha256(), whole.getSha256());
+        Assert.assertFalse(chunked.hasChanged(whole));
+        Assert.assertTrue(chunked.contains("xpath-table"));
+        Assert.assertFalse(chunked.contains("absent"));
+        System.out.println("✅ Page source streamed in " + chunked.getChunkCount() + " chunks on "
+                + getBackend() + " backend");
+    }
+
+    private static List<String> describe(List<WebElement> elements) {
+        List<String> described = new ArrayList<>();
+        for (WebElement element : elements) {
+            described.add(element.getTagName() + ":" + element.getText());
+        }
+        return described;
+    }
+}
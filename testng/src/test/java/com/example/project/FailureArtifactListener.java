@@ -0,0 +1,43 @@
+package com.example.project;
+
+import com.test.framework.artifact.ArtifactWriter;
+import com.test.framework.artifact.FailureCapture;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Captures screenshot, page source, console log and stack trace of every
+ * failed test. Runs on the test thread right after the test method, while
+ * its driver is still borrowed; writing happens in the background.
+ */
+public class FailureArtifactListener implements IInvokedMethodListener, ISuiteListener {
+
+    private static final AtomicInteger FAILURES = new AtomicInteger();
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        if (!method.isTestMethod() || result.getStatus() != ITestResult.FAILURE) {
+            return;
+        }
+        FAILURES.incrementAndGet();
+        String name = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+        int queued = FailureCapture.capture(BaseTest.currentDriver(), name, result.getThrowable(),
+                ArtifactWriter.shared());
+        System.out.println("📸 Queued " + queued + " failure artifacts for " + name);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (FAILURES.get() > 0) {
+            // Flush only: a later suite in this JVM keeps using the shared writer, which closes at exit
+            ArtifactWriter writer = ArtifactWriter.shared();
+            writer.flush();
+            System.out.println("📸 " + writer);
+        }
+    }
+}
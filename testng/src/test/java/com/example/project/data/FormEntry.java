@@ -0,0 +1,80 @@
+package com.example.project.data;
+
+import com.test.framework.data.DataRow;
+import org.openqa.selenium.By;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One data-driven submission of the demo.html contact and profile form
+ */
+public final class FormEntry {
+
+    private static final List<String> INTERESTS = List.of("coding", "reading", "gaming");
+
+    private final String label;
+    private final String fullname;
+    private final String email;
+    private final String message;
+    private final String country;
+    private final String gender;
+    private final List<String> interests;
+
+    private FormEntry(String label, String fullname, String email, String message, String country, String gender,
+            List<String> interests) {
+        this.label = label;
+        this.fullname = fullname;
+        this.email = email;
+        this.message = message;
+        this.country = country;
+        this.gender = gender;
+        this.interests = interests;
+    }
+
+    /**
+     * Maps a row with columns fullname, email, message, country (value or
+     * visible text), gender (male or female) and interests (list of
+     * coding, reading, gaming)
+     */
+    public static FormEntry from(DataRow row) {
+        String gender = row.getString("gender");
+        if (!"male".equals(gender) && !"female".equals(gender)) {
+            throw new IllegalArgumentException(row + ": gender must be male or female: " + gender);
+        }
+        List<String> interests = row.getList("interests");
+        for (String interest : interests) {
+            if (!INTERESTS.contains(interest)) {
+                throw new IllegalArgumentException(row + ": unknown interest " + interest);
+            }
+        }
+        return new FormEntry(row.toString(), row.getString("fullname", ""), row.getString("email", ""),
+                row.getString("message", ""), row.getString("country", ""), gender, interests);
+    }
+
+    /**
+     * Every field of the form, ready for {@link com.test.framework.form.FormFiller}
+     */
+    public Map<By, Object> toFormValues() {
+        Map<By, Object> values = new LinkedHashMap<>();
+        values.put(By.name("fullname"), fullname);
+        values.put(By.name("email"), email);
+        values.put(By.name("message"), message);
+        values.put(By.id("country"), country);
+        values.put(By.id(gender), true);
+        for (String interest : INTERESTS) {
+            values.put(By.id(interest), interests.contains(interest));
+        }
+        return values;
+    }
+
+    public String getFullname() {
+        return fullname;
+    }
+
+    @Override
+    public String toString() {
+        return label + " " + fullname;
+    }
+}
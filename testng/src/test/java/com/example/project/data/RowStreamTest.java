@@ -0,0 +1,103 @@
+package com.example.project.data;
+
+import com.test.framework.data.DataRow;
+import com.test.framework.data.RowStream;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV parsing of {@link RowStream}, without a browser
+ */
+public class RowStreamTest {
+
+    @Test
+    public void quotedFieldsMayContainCommas() throws IOException {
+        List<DataRow> rows = read("name,city\n\"Doe, Jane\",\"Paris, TX\"\n");
+
+        Assert.assertEquals(rows.size(), 1);
+        Assert.assertEquals(rows.get(0).asMap(), Map.of("name", "Doe, Jane", "city", "Paris, TX"));
+    }
+
+    @Test
+    public void doubledQuotesAreOneQuote() throws IOException {
+        List<DataRow> rows = read("name,quote\nJane,\"She said \"\"hi\"\"\"\nJohn,\"\"\"\"\n");
+
+        Assert.assertEquals(rows.get(0).getString("quote"), "She said \"hi\"");
+        Assert.assertEquals(rows.get(1).getString("quote"), "\"");
+    }
+
+    @Test
+    public void quotedFieldsMaySpanLines() throws IOException {
+        List<DataRow> rows = read("name,address\nJane,\"1 Main St\n\nSpringfield\"\nJohn,2 Elm St\n");
+
+        Assert.assertEquals(rows.size(), 2);
+        Assert.assertEquals(rows.get(0).getString("address"), "1 Main St\n\nSpringfield");
+        Assert.assertEquals(rows.get(1).getNumber(), 2);
+        Assert.assertEquals(rows.get(1).getString("address"), "2 Elm St");
+    }
+
+    @Test
+    public void emptyAndBlankLinesAreHandled() throws IOException {
+        List<DataRow> rows = read("a,b,c\n\n,,\n\n1,,3\n");
+
+        Assert.assertEquals(rows.size(), 2);
+        Assert.assertEquals(rows.get(0).asMap(), Map.of("a", "", "b", "", "c", ""));
+        Assert.assertEquals(rows.get(1).asMap(), Map.of("a", "1", "b", "", "c", "3"));
+    }
+
+    @Test
+    public void byteOrderMarkIsStrippedFromTheHeader() throws IOException {
+        List<DataRow> rows = read("\uFEFFname,age\nJane,42\n");
+
+        Assert.assertTrue(rows.get(0).has("name"));
+        Assert.assertEquals(rows.get(0).getInt("age"), 42);
+    }
+
+    @Test
+    public void windowsLineEndingsAreNotPartOfTheLastField() throws IOException {
+        List<DataRow> rows = read("name,age\r\nJane,42\r\n");
+
+        Assert.assertEquals(rows.get(0).getString("age"), "42");
+    }
+
+    @Test
+    public void wrongColumnCountNamesTheLine() throws IOException {
+        RowStream stream = RowStream.open(file("name,age\nJane,42\n\"John\nDoe\",42,extra\n"));
+        stream.next();
+
+        IllegalArgumentException e = Assert.expectThrows(IllegalArgumentException.class, stream::next);
+        Assert.assertTrue(e.getMessage().endsWith(":4: expected 2 columns but found 3"), e.getMessage());
+        Assert.assertFalse(stream.hasNext());
+    }
+
+    @Test
+    public void unterminatedQuoteIsAnError() throws IOException {
+        RowStream stream = RowStream.open(file("name,age\n\"Jane,42\n"));
+
+        IllegalArgumentException e = Assert.expectThrows(IllegalArgumentException.class, stream::hasNext);
+        Assert.assertTrue(e.getMessage().endsWith("unterminated quoted field"), e.getMessage());
+    }
+
+    private static List<DataRow> read(String csv) throws IOException {
+        List<DataRow> rows = new ArrayList<>();
+        try (RowStream stream = RowStream.open(file(csv))) {
+            stream.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+
+    private static Path file(String csv) throws IOException {
+        Path file = Files.createTempFile("rows", ".csv");
+        file.toFile().deleteOnExit();
+        Files.write(file, csv.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.project.data;
+
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * Tells {@link StreamingRows} providers when an invocation is done, whatever
+ * its outcome, so they can read further rows
+ */
+public class StreamingRowListener implements ITestListener {
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        StreamingRows.completed(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        StreamingRows.completed(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        StreamingRows.completed(result);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        StreamingRows.completed(result);
+    }
+}
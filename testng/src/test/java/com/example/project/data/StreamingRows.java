@@ -0,0 +1,123 @@
+package com.example.project.data;
+
+import com.test.framework.data.RowMapper;
+import com.test.framework.data.RowStream;
+import org.testng.ITestContext;
+import org.testng.ITestResult;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lazy data provider over a {@link RowStream} that keeps memory flat with
+ * {@code @DataProvider(parallel = true)}.
+ *
+ * TestNG reads a parallel provider as fast as it can and queues every row for
+ * its data provider threads, so a plain lazy iterator would still end up with
+ * the whole file in memory. Here {@link #next()} blocks once a window of rows
+ * (twice the data provider thread count) is read but not finished;
+ * {@link StreamingRowListener} reopens the window as each invocation
+ * completes and swaps the finished row in the test result for its label.
+ *
+ * Only the test method sees the typed row. Once an invocation finishes, its
+ * result's parameters are downgraded to the rows' {@code toString()}, so
+ * listeners that run later and the reports get strings.
+ */
+public final class StreamingRows implements Iterator<Object[]> {
+
+    // Rows handed to TestNG and not yet finished, by identity, so the listener finds their provider. One
+    // entry per next() call: a mapper may return the same instance for several rows, each holds a slot
+    private static final Map<Object, Deque<StreamingRows>> IN_FLIGHT = new IdentityHashMap<>();
+    private static final long STALL_TIMEOUT_MINUTES = 10;
+
+    private final RowStream source;
+    private final Iterator<?> rows;
+    private final Semaphore window;
+
+    private StreamingRows(RowStream source, RowMapper<?> mapper, int windowSize) {
+        this.source = source;
+        this.rows = source.map(mapper);
+        this.window = new Semaphore(windowSize);
+    }
+
+    /**
+     * Provider for one typed argument per row, mapped as rows are read
+     */
+    public static Iterator<Object[]> of(RowStream source, RowMapper<?> mapper, ITestContext context) {
+        int threads = context.getSuite().getXmlSuite().getDataProviderThreadCount();
+        return new StreamingRows(source, mapper, Math.max(1, threads * 2));
+    }
+
+    @Override
+    public boolean hasNext() {
+        return rows.hasNext();
+    }
+
+    @Override
+    public Object[] next() {
+        try {
+            if (!window.tryAcquire(STALL_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+                // Completions aren't coming back (listener not registered?), keep going unbounded
+                System.out.println("✗ No row of " + source.getName() + " finished in "
+                        + STALL_TIMEOUT_MINUTES + " minutes, reading on without a window");
+                window.release(Integer.MAX_VALUE / 2);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for rows of " + source.getName(), e);
+        }
+        Object row;
+        try {
+            row = rows.next();
+        } catch (RuntimeException e) {
+            window.release();
+            throw e;
+        }
+        synchronized (IN_FLIGHT) {
+            IN_FLIGHT.computeIfAbsent(row, r -> new ArrayDeque<>()).add(this);
+        }
+        return new Object[]{row};
+    }
+
+    /**
+     * Releases the window slots of the rows a finished invocation used
+     */
+    static void completed(ITestResult result) {
+        Object[] parameters = result.getParameters();
+        if (parameters == null) {
+            return;
+        }
+        boolean streamed = false;
+        for (int i = 0; i < parameters.length; i++) {
+            StreamingRows owner = parameters[i] == null ? null : finished(parameters[i]);
+            if (owner != null) {
+                owner.window.release();
+                // TestNG keeps every result until the suite ends, so don't let it keep the row
+                parameters[i] = String.valueOf(parameters[i]);
+                streamed = true;
+            }
+        }
+        if (streamed) {
+            result.setParameters(parameters);
+        }
+    }
+
+    private static StreamingRows finished(Object row) {
+        synchronized (IN_FLIGHT) {
+            Deque<StreamingRows> owners = IN_FLIGHT.get(row);
+            if (owners == null) {
+                return null;
+            }
+            StreamingRows owner = owners.poll();
+            if (owners.isEmpty()) {
+                IN_FLIGHT.remove(row);
+            }
+            return owner;
+        }
+    }
+}
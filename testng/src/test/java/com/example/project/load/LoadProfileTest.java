@@ -0,0 +1,98 @@
+package com.example.project.load;
+
+import com.test.framework.load.LoadProfile;
+import com.test.framework.load.LoadProfile.Phase;
+import com.test.framework.load.RateCredit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Target rate over a load run and the iterations scheduled from it, without
+ * a browser
+ */
+public class LoadProfileTest {
+
+    private static final double DELTA = 1e-9;
+
+    // 10/s: ramp-up 0-1 s, steady 1-3 s, ramp-down 3-4 s, i.e. 5 + 20 + 5 iterations
+    private static LoadProfile profile() {
+        return new LoadProfile()
+                .setTargetRate(10)
+                .setRampUp(Duration.ofSeconds(1))
+                .setSteady(Duration.ofSeconds(2))
+                .setRampDown(Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void targetRateFollowsThePhases() {
+        LoadProfile profile = profile();
+
+        Assert.assertEquals(profile.targetRateAt(-1), 0, DELTA);
+        Assert.assertEquals(profile.targetRateAt(0), 0, DELTA);
+        Assert.assertEquals(profile.targetRateAt(500), 5, DELTA);
+        Assert.assertEquals(profile.targetRateAt(1000), 10, DELTA);
+        Assert.assertEquals(profile.targetRateAt(2999), 10, DELTA);
+        Assert.assertEquals(profile.targetRateAt(3000), 10, DELTA);
+        Assert.assertEquals(profile.targetRateAt(3500), 5, DELTA);
+        Assert.assertEquals(profile.targetRateAt(4000), 0, DELTA);
+        Assert.assertEquals(profile.targetRateAt(60_000), 0, DELTA);
+    }
+
+    @Test
+    public void phaseBoundariesBelongToTheLaterPhase() {
+        LoadProfile profile = profile();
+
+        Assert.assertEquals(profile.phaseAt(0), Phase.RAMP_UP);
+        Assert.assertEquals(profile.phaseAt(999), Phase.RAMP_UP);
+        Assert.assertEquals(profile.phaseAt(1000), Phase.STEADY);
+        Assert.assertEquals(profile.phaseAt(2999), Phase.STEADY);
+        Assert.assertEquals(profile.phaseAt(3000), Phase.RAMP_DOWN);
+        Assert.assertEquals(profile.secondsOf(Phase.STEADY), 2, DELTA);
+        Assert.assertEquals(profile.getTotalDuration(), Duration.ofSeconds(4));
+    }
+
+    @Test
+    public void withoutRampsTheRateIsFlat() {
+        LoadProfile profile = profile().setRampUp(Duration.ZERO).setRampDown(Duration.ZERO);
+
+        Assert.assertEquals(profile.targetRateAt(0), 10, DELTA);
+        Assert.assertEquals(profile.phaseAt(0), Phase.STEADY);
+        Assert.assertEquals(profile.targetRateAt(2000), 0, DELTA);
+    }
+
+    @Test
+    public void creditAddsUpToTheProfileTotal() {
+        Assert.assertEquals(scheduled(profile(), 10), 30, 1);
+    }
+
+    @Test
+    public void unevenTicksCarryTheFraction() {
+        // 7 ms ticks never line up with the phase boundaries
+        Assert.assertEquals(scheduled(profile(), 7), 30, 1);
+        // 1/s in 300 ms ticks: no tick is worth a whole iteration on its own
+        LoadProfile slow = profile().setTargetRate(1).setRampUp(Duration.ZERO).setRampDown(Duration.ZERO);
+        Assert.assertEquals(scheduled(slow, 300), 2, 1);
+    }
+
+    @Test
+    public void nothingIsDueBeforeTheRampStarts() {
+        RateCredit credit = new RateCredit(profile());
+
+        Assert.assertEquals(credit.advance(0, 0), 0);
+        Assert.assertEquals(credit.advance(0, TimeUnit.MILLISECONDS.toNanos(10)), 0);
+    }
+
+    private static int scheduled(LoadProfile profile, long tickMillis) {
+        RateCredit credit = new RateCredit(profile);
+        long end = profile.getTotalDuration().toNanos();
+        long tick = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        int total = 0;
+        for (long from = 0; from < end; from += tick) {
+            total += credit.advance(from, Math.min(from + tick, end));
+        }
+        return total;
+    }
+}
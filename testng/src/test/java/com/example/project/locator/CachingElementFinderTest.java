@@ -0,0 +1,119 @@
+package com.example.project.locator;
+
+import com.example.project.Backend;
+import com.example.project.BaseTest;
+import com.test.framework.driver.DriverBackend;
+import com.test.framework.locator.CachingElementFinder;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Browser round trips of cached lookups on demo.html, counted on the in-JVM
+ * backend
+ */
+@Backend(DriverBackend.JVM)
+public class CachingElementFinderTest extends BaseTest {
+
+    /**
+     * Counts the commands the finder sends to the driver beneath it
+     */
+    public static class CommandCounter implements WebDriverListener {
+
+        private int scripts;
+        private int finds;
+
+        @Override
+        public void beforeExecuteScript(WebDriver driver, String script, Object[] args) {
+            scripts++;
+        }
+
+        @Override
+        public void beforeFindElement(WebDriver driver, By locator) {
+            finds++;
+        }
+
+        @Override
+        public void beforeFindElements(WebDriver driver, By locator) {
+            finds++;
+        }
+
+        int calls() {
+            int calls = scripts + finds;
+            scripts = 0;
+            finds = 0;
+            return calls;
+        }
+    }
+
+    @Test
+    public void missIsOneCallAndHitIsNone() {
+        CommandCounter counter = new CommandCounter();
+        CachingElementFinder finder = finder(counter);
+
+        WebElement username = finder.findElement(By.id("username"));
+        Assert.assertEquals(counter.calls(), 1, "miss");
+        Assert.assertSame(finder.findElement(By.id("username")), username);
+        Assert.assertEquals(counter.calls(), 0, "hit");
+
+        List<WebElement> highlights = finder.findElements(By.className("highlight"));
+        Assert.assertFalse(highlights.isEmpty());
+        Assert.assertEquals(counter.calls(), 1, "list miss");
+        Assert.assertSame(finder.findElements(By.className("highlight")), highlights);
+        Assert.assertEquals(counter.calls(), 0, "list hit");
+        Assert.assertEquals(finder.getHits(), 2);
+        Assert.assertEquals(finder.getMisses(), 2);
+    }
+
+    @Test
+    public void interactionMakesTheNextHitCheckTheGeneration() {
+        CommandCounter counter = new CommandCounter();
+        CachingElementFinder finder = finder(counter);
+        WebElement username = finder.findElement(By.id("username"));
+
+        username.sendKeys("cached");
+        counter.calls();
+        Assert.assertSame(finder.findElement(By.id("username")), username);
+        Assert.assertEquals(counter.calls(), 1, "generation check after typing");
+        finder.findElement(By.id("username"));
+        Assert.assertEquals(counter.calls(), 0, "hit once checked");
+    }
+
+    @Test
+    public void scriptThroughTheDriverMakesTheNextHitCheckTheGeneration() {
+        CommandCounter counter = new CommandCounter();
+        CachingElementFinder finder = finder(counter);
+        finder.findElement(By.id("username"));
+
+        ((JavascriptExecutor) finder.getDriver()).executeScript("return document.title;");
+        counter.calls();
+        finder.findElement(By.id("username"));
+        Assert.assertEquals(counter.calls(), 1, "generation check after a script");
+    }
+
+    @Test
+    public void navigationThroughTheDriverDropsTheCache() {
+        CommandCounter counter = new CommandCounter();
+        CachingElementFinder finder = finder(counter);
+        WebElement username = finder.findElement(By.id("username"));
+
+        finder.getDriver().get(fixtureUrl("demo.html"));
+        counter.calls();
+        Assert.assertNotSame(finder.findElement(By.id("username")), username);
+        Assert.assertEquals(counter.calls(), 1, "miss after navigation");
+        Assert.assertEquals(finder.getInvalidations(), 1);
+    }
+
+    private CachingElementFinder finder(CommandCounter counter) {
+        WebDriver driver = getDriver();
+        driver.get(fixtureUrl("demo.html"));
+        return new CachingElementFinder(new EventFiringDecorator<>(counter).decorate(driver));
+    }
+}
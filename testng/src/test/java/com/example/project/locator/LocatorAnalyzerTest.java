@@ -0,0 +1,54 @@
+package com.example.project.locator;
+
+import com.test.framework.locator.LocatorAnalyzer;
+import com.test.framework.locator.LocatorAnalyzer.Finding;
+import com.test.framework.locator.LocatorCost;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Locator literals found in source text, without a browser
+ */
+public class LocatorAnalyzerTest {
+
+    private static final Path FILE = Paths.get("Example.java");
+
+    @Test
+    public void literalsAreClassifiedWithTheirLine() {
+        List<Finding> findings = LocatorAnalyzer.analyze(FILE, String.join("\n",
+                "driver.findElement(By.id(\"username\"));",
+                "driver.findElement(By.xpath(\"//*[@id='submit']\"));",
+                "driver.findElement(By.cssSelector(\"a[title=\\\"x\\\"]\"));"));
+
+        Assert.assertEquals(findings.size(), 3);
+        Assert.assertEquals(findings.get(0).getCost(), LocatorCost.ID);
+        Assert.assertNull(findings.get(0).getSuggestion());
+        Assert.assertEquals(findings.get(1).getLine(), 2);
+        Assert.assertEquals(findings.get(1).getSuggestion(), By.id("submit"));
+        Assert.assertEquals(findings.get(2).getBy(), By.cssSelector("a[title=\"x\"]"));
+    }
+
+    @Test
+    public void invalidLiteralIsReportedAndScanningContinues() {
+        List<Finding> findings = LocatorAnalyzer.analyze(FILE, String.join("\n",
+                "driver.findElement(By.className(\"btn primary\"));",
+                "driver.findElement(By.name(\"q\"));"));
+
+        Assert.assertEquals(findings.size(), 2);
+        Finding invalid = findings.get(0);
+        Assert.assertNull(invalid.getBy());
+        Assert.assertNull(invalid.getCost());
+        Assert.assertNotNull(invalid.getProblem());
+        Assert.assertTrue(invalid.toString().contains("[INVALID] By.className: btn primary"), invalid.toString());
+        Assert.assertEquals(findings.get(1).getBy(), By.name("q"));
+        Assert.assertNull(findings.get(1).getProblem());
+
+        // Sorting for the report has to cope with findings without a cost
+        LocatorAnalyzer.print(findings);
+    }
+}
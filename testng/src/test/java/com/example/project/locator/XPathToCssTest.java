@@ -0,0 +1,70 @@
+package com.example.project.locator;
+
+import com.test.framework.locator.LocatorCost;
+import com.test.framework.locator.XPathToCss;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * XPath to CSS conversion, without a browser. That the rewrites find the same
+ * elements on a real page is checked by DemoPageStructureTest.
+ */
+public class XPathToCssTest {
+
+    @Test
+    public void stepsAndAttributePredicatesConvert() {
+        Assert.assertEquals(XPathToCss.convert("//input[@data-testid='xpath-input']"),
+                "input[data-testid=\"xpath-input\"]");
+        Assert.assertEquals(XPathToCss.convert("/html/body//div"), "html:root > body div");
+        Assert.assertEquals(XPathToCss.convert("//ul[contains(@class,'list')]/li[last()]"),
+                "ul[class*=\"list\"] > li:last-of-type");
+        Assert.assertEquals(XPathToCss.convert("//a[starts-with(@href,'/docs') and @title]"),
+                "a[href^=\"/docs\"][title]");
+        Assert.assertEquals(XPathToCss.convert("//a[@title='say \"hi\"']"), "a[title=\"say \\\"hi\\\"\"]");
+        Assert.assertEquals(XPathToCss.convert("//div[contains(@class,'')]"), "div[class]");
+    }
+
+    @Test
+    public void positionsConvertOnlyAsTheFirstPredicate() {
+        Assert.assertEquals(XPathToCss.convert("//tr[2]/td[1]"), "tr:nth-of-type(2) > td:nth-of-type(1)");
+        Assert.assertEquals(XPathToCss.convert("//*[2]"), ":nth-child(2)");
+        Assert.assertNull(XPathToCss.convert("//tr[@class='row'][2]"));
+    }
+
+    @Test
+    public void expressionsWithoutCssEquivalentAreLeftAlone() {
+        Assert.assertNull(XPathToCss.convert("//h2[contains(text(),'ID Locator')]"));
+        Assert.assertNull(XPathToCss.convert("//label[@for='male']/following-sibling::input"));
+        Assert.assertNull(XPathToCss.convert("(//tr)[2]"));
+        Assert.assertNull(XPathToCss.convert("input[@id='username']"));
+        Assert.assertNull(XPathToCss.convert("//div[span[@class='x']]"));
+    }
+
+    @Test
+    public void caseInsensitiveAttributeValuesAreLeftAlone() {
+        // CSS would also match type="TEXT", XPath doesn't
+        Assert.assertNull(XPathToCss.convert("//input[@type='text']"));
+        Assert.assertNull(XPathToCss.convert("//link[contains(@rel,'style')]"));
+        Assert.assertNull(XPathToCss.convert("//html[@LANG='en']"));
+        // Presence and letterless values compare the same either way
+        Assert.assertEquals(XPathToCss.convert("//input[@type]"), "input[type]");
+        Assert.assertEquals(XPathToCss.convert("//td[@align='123']"), "td[align=\"123\"]");
+    }
+
+    @Test
+    public void rewriteUsesTheCheapestLocator() {
+        Assert.assertEquals(XPathToCss.rewrite(By.xpath("//*[@id='username']")), By.id("username"));
+        Assert.assertEquals(XPathToCss.rewrite(By.xpath("//*[@name='fullname']")), By.name("fullname"));
+        Assert.assertEquals(XPathToCss.rewrite(By.xpath("//input[@id='username']")),
+                By.cssSelector("input#username"));
+        Assert.assertTrue(LocatorCost.of(By.id("username")).compareTo(LocatorCost.of(By.xpath("//*"))) < 0);
+    }
+
+    @Test
+    public void onlyConvertibleXPathIsRewritten() {
+        Assert.assertNull(XPathToCss.rewrite(By.id("username")));
+        Assert.assertNull(XPathToCss.rewrite(By.cssSelector("input")));
+        Assert.assertNull(XPathToCss.rewrite(By.xpath("//h2[contains(text(),'ID Locator')]")));
+    }
+}
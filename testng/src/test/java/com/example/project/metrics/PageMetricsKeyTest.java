@@ -0,0 +1,37 @@
+package com.example.project.metrics;
+
+import com.test.framework.metrics.PageMetrics;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * URLs that page metrics and navigation times are aggregated under, without
+ * a browser
+ */
+public class PageMetricsKeyTest {
+
+    @Test
+    public void loopbackPortsAreDropped() {
+        Assert.assertEquals(PageMetrics.key("http://localhost:41234/demo.html"), "http://localhost/demo.html");
+        Assert.assertEquals(PageMetrics.key("http://127.0.0.1:8080/a/b.html"), "http://127.0.0.1/a/b.html");
+        Assert.assertEquals(PageMetrics.key("http://[::1]:9000/"), "http://[::1]/");
+    }
+
+    @Test
+    public void otherHostsKeepTheirPort() {
+        Assert.assertEquals(PageMetrics.key("https://example.com:8443/a?b=1"), "https://example.com:8443/a?b=1");
+        Assert.assertEquals(PageMetrics.key("https://example.com/a"), "https://example.com/a");
+    }
+
+    @Test
+    public void fragmentIsDroppedAndQueryKept() {
+        Assert.assertEquals(PageMetrics.key("http://localhost:41234/demo.html?tab=2#top"),
+                "http://localhost/demo.html?tab=2");
+        Assert.assertEquals(PageMetrics.key("https://example.com/docs#install"), "https://example.com/docs");
+    }
+
+    @Test
+    public void unparseableUrlIsKeptAsIs() {
+        Assert.assertEquals(PageMetrics.key("not a url"), "not a url");
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.project.sharding;
+
+import com.test.framework.metrics.HistoryFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Per-test-method durations from previous runs, kept in a properties file
+ * (-Dshard.history, default
+ * ~/.cache/selenium-framework/test-durations.properties). Point it at a
+ * checked-in file to have CI plan with the same numbers.
+ *
+ * Each run's measurement is averaged with the stored value, so one slow run
+ * doesn't dominate. Shards running in parallel merge under a file lock.
+ */
+public final class DurationHistory {
+
+    private final Path file;
+    private final Map<String, Long> durations;
+
+    private DurationHistory(Path file, Map<String, Long> durations) {
+        this.file = file;
+        this.durations = durations;
+    }
+
+    public static DurationHistory load() {
+        String configured = System.getProperty("shard.history");
+        return load(configured != null
+                ? Paths.get(configured)
+                : Paths.get(System.getProperty("user.home"), ".cache", "selenium-framework", "test-durations.properties"));
+    }
+
+    static DurationHistory load(Path file) {
+        Map<String, Long> durations = new HashMap<>();
+        Properties properties = HistoryFile.read(file);
+        for (String key : properties.stringPropertyNames()) {
+            try {
+                durations.put(key, Long.parseLong(properties.getProperty(key).trim()));
+            } catch (NumberFormatException e) {
+                // Ignore a hand-edited entry
+            }
+        }
+        return new DurationHistory(file, durations);
+    }
+
+    /**
+     * Recorded duration in ms, or null for a test that never ran
+     */
+    public Long get(String testId) {
+        return durations.get(testId);
+    }
+
+    public Map<String, Long> asMap() {
+        return durations;
+    }
+
+    /**
+     * Merges this run's measurements into the file
+     */
+    public void record(Map<String, Long> measured) throws IOException {
+        if (measured.isEmpty()) {
+            return;
+        }
+        HistoryFile.update(file, "Test method durations in ms, used to balance shards", properties ->
+                measured.forEach((testId, millis) -> {
+                    String previous = properties.getProperty(testId);
+                    long merged = previous == null ? millis : (Long.parseLong(previous.trim()) + millis) / 2;
+                    properties.setProperty(testId, String.valueOf(merged));
+                }));
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.project.sharding;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runs the suite as -Dshard.count parallel JVMs (default 2), each executing
+ * its balanced shard, and reports predicted against actual shard times.
+ *
+ * Surefire's own forkCount hands classes to forks as they become free, which
+ * can't follow a precomputed plan, so the forks are started here instead.
+ * Run with {@code mvn -pl testng test -Pshards -Dshard.count=4}; for separate
+ * CI machines run {@code mvn test -Dshard.count=N -Dshard.index=i} on each.
+ *
+ * The report is printed and written to target/shard-report.csv.
+ */
+public final class ShardLauncher {
+
+    private ShardLauncher() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int count = Integer.getInteger("shard.count", 2);
+        Path reportDir = Paths.get(System.getProperty("shard.reportDir", "target/shards"));
+        Path classesDir = Paths.get(System.getProperty("shard.testClasses", "target/test-classes"));
+        String testClasses = findTestClasses(classesDir);
+        deleteResults(reportDir);
+
+        List<Process> forks = new ArrayList<>();
+        List<Long> started = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            List<String> command = new ArrayList<>();
+            command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add("-Dshard.count=" + count);
+            command.add("-Dshard.index=" + index);
+            command.add("-Dshard.reportDir=" + reportDir);
+            // Forward the suite settings (history file, driver backend and pool, launch profile, ...)
+            for (String name : System.getProperties().stringPropertyNames()) {
+                if (name.startsWith("driver.") || name.startsWith("browser.") || name.equals("shard.history")
+                        || name.equals("shard.granularity")) {
+                    command.add("-D" + name + "=" + System.getProperty(name));
+                }
+            }
+            command.add("org.testng.TestNG");
+            command.add("-d");
+            command.add(reportDir.resolve("testng-" + index).toString());
+            command.add("-parallel");
+            command.add(System.getProperty("testng.parallel", "methods"));
+            command.add("-threadcount");
+            command.add(System.getProperty("testng.threadCount", "4"));
+            command.add("-dataproviderthreadcount");
+            command.add(System.getProperty("testng.threadCount", "4"));
+            command.add("-testclass");
+            command.add(testClasses);
+            forks.add(new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(reportDir.resolve("shard-" + index + ".log").toFile())
+                    .start());
+            started.add(System.nanoTime());
+        }
+        System.out.println("🧩 Started " + count + " shard JVMs, logs in " + reportDir);
+
+        int failed = 0;
+        List<Long> wall = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            int exit = forks.get(index).waitFor();
+            wall.add((System.nanoTime() - started.get(index)) / 1_000_000);
+            if (exit != 0) {
+                failed++;
+                System.out.println("✗ Shard " + index + " failed (exit " + exit + "), see shard-" + index + ".log");
+            }
+        }
+        report(reportDir, count, wall);
+        if (failed > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void report(Path reportDir, int count, List<Long> wall) throws IOException {
+        Path csv = reportDir.getParent() != null ? reportDir.getParent().resolve("shard-report.csv")
+                : Paths.get("shard-report.csv");
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(csv, StandardCharsets.UTF_8))) {
+            out.println("shard,tests,predicted_ms,actual_ms,jvm_wall_ms,error_pct");
+            System.out.println("\n🧩 Shard  Tests  Predicted(ms)  Actual(ms)  JVM wall(ms)  Error");
+            long slowest = 0;
+            long total = 0;
+            for (int index = 0; index < count; index++) {
+                Properties result = new Properties();
+                Path file = reportDir.resolve("shard-" + index + ".properties");
+                if (Files.isRegularFile(file)) {
+                    try (InputStream in = Files.newInputStream(file)) {
+                        result.load(in);
+                    }
+                }
+                long predicted = Long.parseLong(result.getProperty("predictedMillis", "0"));
+                long actual = Long.parseLong(result.getProperty("actualMillis", "0"));
+                double error = predicted == 0 ? 0 : 100.0 * (actual - predicted) / predicted;
+                String tests = result.getProperty("tests", "?");
+                out.println(String.format(Locale.ROOT, "%d,%s,%d,%d,%d,%.1f",
+                        index, tests, predicted, actual, wall.get(index), error));
+                System.out.println(String.format(Locale.ROOT, "   %5d  %5s  %13d  %10d  %12d  %+5.1f%%",
+                        index, tests, predicted, actual, wall.get(index), error));
+                slowest = Math.max(slowest, wall.get(index));
+                total += wall.get(index);
+            }
+            System.out.println(String.format(Locale.ROOT,
+                    "🧩 Suite wall time %d ms, set by the slowest shard (mean shard %d ms)", slowest, total / count));
+        }
+        System.out.println("🧩 Report: " + csv);
+    }
+
+    /**
+     * Concrete test classes (named *Test) under the compiled test classes
+     */
+    private static String findTestClasses(Path classesDir) throws IOException {
+        try (Stream<Path> files = Files.walk(classesDir)) {
+            return files
+                    .map(path -> classesDir.relativize(path).toString())
+                    .filter(name -> name.endsWith("Test.class") && !name.contains("$"))
+                    .map(name -> name.substring(0, name.length() - ".class".length()).replace(File.separatorChar, '.'))
+                    .filter(name -> !name.endsWith(".BaseTest"))
+                    .sorted()
+                    .collect(Collectors.joining(","));
+        }
+    }
+
+    private static void deleteResults(Path reportDir) throws IOException {
+        Files.createDirectories(reportDir);
+        try (Stream<Path> files = Files.list(reportDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (file.getFileName().toString().matches("shard-\\d+\\.properties")) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+}
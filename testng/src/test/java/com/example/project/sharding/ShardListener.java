@@ -0,0 +1,125 @@
+package com.example.project.sharding;
+
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs only this JVM's shard of the suite and records how long every test
+ * took.
+ *
+ * With -Dshard.count=N -Dshard.index=i (0-based) the methods are planned with
+ * {@link ShardPlanner} and everything outside shard i is dropped, so N
+ * machines or JVMs given the same history each run a balanced part. Without
+ * them the whole suite runs. Either way the measured durations are merged
+ * into the {@link DurationHistory} and the shard's predicted and actual time
+ * is written to target/shards/shard-i.properties for {@link ShardLauncher}.
+ */
+public class ShardListener implements IMethodInterceptor, ITestListener, ISuiteListener {
+
+    private final Map<String, Long> measured = new ConcurrentHashMap<>();
+    private volatile long predictedMillis;
+    private volatile int testCount;
+    private long suiteStart;
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        int count = Integer.getInteger("shard.count", 1);
+        int index = Integer.getInteger("shard.index", 0);
+        DurationHistory history = DurationHistory.load();
+
+        Set<String> testIds = new LinkedHashSet<>();
+        for (IMethodInstance method : methods) {
+            testIds.add(testId(method.getMethod()));
+        }
+        ShardPlanner.Shard shard = ShardPlanner.plan(testIds, history, Math.max(1, count),
+                "class".equals(System.getProperty("shard.granularity"))).get(count > 1 ? index : 0);
+        Set<String> selected = new HashSet<>(shard.getTestIds());
+
+        List<IMethodInstance> kept = new ArrayList<>();
+        for (IMethodInstance method : methods) {
+            if (selected.contains(testId(method.getMethod()))) {
+                kept.add(method);
+            }
+        }
+        predictedMillis = shard.getPredictedMillis();
+        testCount = selected.size();
+        if (count > 1) {
+            System.out.println("🧩 Shard " + index + "/" + count + ": " + selected.size() + " of " + testIds.size()
+                    + " tests, predicted " + predictedMillis + " ms");
+        }
+        return kept;
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        suiteStart = System.nanoTime();
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        long actualMillis = (System.nanoTime() - suiteStart) / 1_000_000;
+        try {
+            DurationHistory.load().record(measured);
+            writeShardResult(actualMillis);
+        } catch (IOException e) {
+            System.out.println("🧩 Could not save test durations: " + e.getMessage());
+        }
+        if (Integer.getInteger("shard.count", 1) > 1) {
+            System.out.println("🧩 Shard " + Integer.getInteger("shard.index", 0) + " finished in " + actualMillis
+                    + " ms (predicted " + predictedMillis + " ms)");
+        }
+    }
+
+    private void record(ITestResult result) {
+        // Data-driven methods run many times, their invocations add up
+        measured.merge(testId(result.getMethod()), result.getEndMillis() - result.getStartMillis(), Long::sum);
+    }
+
+    private void writeShardResult(long actualMillis) throws IOException {
+        Path dir = Paths.get(System.getProperty("shard.reportDir", "target/shards"));
+        Files.createDirectories(dir);
+        Properties result = new Properties();
+        result.setProperty("index", String.valueOf(Integer.getInteger("shard.index", 0)));
+        result.setProperty("tests", String.valueOf(testCount));
+        result.setProperty("predictedMillis", String.valueOf(predictedMillis));
+        result.setProperty("actualMillis", String.valueOf(actualMillis));
+        try (OutputStream out = Files.newOutputStream(dir.resolve("shard-" + Integer.getInteger("shard.index", 0)
+                + ".properties"))) {
+            result.store(out, null);
+        }
+    }
+
+    static String testId(ITestNGMethod method) {
+        return method.getRealClass().getName() + "." + method.getMethodName();
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.project.sharding;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Splits tests into shards with balanced predicted runtime.
+ *
+ * Longest-processing-time-first: units are sorted by predicted duration and
+ * each goes to the currently lightest shard. Units are test methods, or whole
+ * classes with -Dshard.granularity=class when classes have expensive
+ * per-class setup. Tests without history are predicted at the median of the
+ * known ones. The plan depends only on the test ids and the history, so every
+ * shard computes the same plan independently.
+ */
+public final class ShardPlanner {
+
+    private static final long DEFAULT_ESTIMATE_MILLIS = 1000;
+
+    private ShardPlanner() {
+    }
+
+    /**
+     * @param testIds  "ClassName.method" of every test in the suite
+     * @param byClass  keep all methods of a class in one shard
+     * @return one entry per shard: its test ids and predicted duration
+     */
+    public static List<Shard> plan(Collection<String> testIds, DurationHistory history, int shardCount,
+            boolean byClass) {
+        long estimate = median(history, testIds);
+
+        // Sorted map keeps the plan independent of the order tests were discovered in
+        Map<String, List<String>> units = new TreeMap<>();
+        for (String testId : testIds) {
+            String unit = byClass ? testId.substring(0, testId.lastIndexOf('.')) : testId;
+            units.computeIfAbsent(unit, u -> new ArrayList<>()).add(testId);
+        }
+        Map<String, Long> predicted = new LinkedHashMap<>();
+        units.forEach((unit, tests) -> {
+            long total = 0;
+            for (String testId : tests) {
+                Long known = history.get(testId);
+                total += known != null ? known : estimate;
+            }
+            predicted.put(unit, total);
+        });
+
+        List<String> order = new ArrayList<>(units.keySet());
+        order.sort(Comparator.comparing((String unit) -> predicted.get(unit)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        List<Shard> shards = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new Shard(i));
+        }
+        for (String unit : order) {
+            Shard lightest = shards.get(0);
+            for (Shard shard : shards) {
+                if (shard.predictedMillis < lightest.predictedMillis) {
+                    lightest = shard;
+                }
+            }
+            lightest.testIds.addAll(units.get(unit));
+            lightest.predictedMillis += predicted.get(unit);
+        }
+        return shards;
+    }
+
+    private static long median(DurationHistory history, Collection<String> testIds) {
+        List<Long> known = new ArrayList<>();
+        for (String testId : testIds) {
+            Long millis = history.get(testId);
+            if (millis != null) {
+                known.add(millis);
+            }
+        }
+        if (known.isEmpty()) {
+            return DEFAULT_ESTIMATE_MILLIS;
+        }
+        known.sort(null);
+        return known.get(known.size() / 2);
+    }
+
+    public static final class Shard {
+
+        private final int index;
+        private final List<String> testIds = new ArrayList<>();
+        private long predictedMillis;
+
+        Shard(int index) {
+            this.index = index;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public List<String> getTestIds() {
+            return testIds;
+        }
+
+        public long getPredictedMillis() {
+            return predictedMillis;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.project.sharding;
+
+import com.example.project.sharding.ShardPlanner.Shard;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shard assignment, without a browser
+ */
+public class ShardPlannerTest {
+
+    @Test
+    public void withoutHistoryTestsAreSpreadEvenly() throws IOException {
+        DurationHistory history = history(Map.of());
+        List<Shard> shards = ShardPlanner.plan(List.of("A.one", "A.two", "B.one", "B.two"), history, 2, false);
+
+        Assert.assertEquals(shards.size(), 2);
+        for (Shard shard : shards) {
+            Assert.assertEquals(shard.getTestIds().size(), 2);
+            Assert.assertEquals(shard.getPredictedMillis(), 2000);
+        }
+    }
+
+    @Test
+    public void longestTestsAreAssignedFirst() throws IOException {
+        DurationHistory history = history(Map.of("A.a", 5000L, "A.b", 3000L, "A.c", 2000L, "A.d", 2000L));
+        List<Shard> shards = ShardPlanner.plan(List.of("A.a", "A.b", "A.c", "A.d"), history, 2, false);
+
+        Assert.assertEquals(shards.get(0).getTestIds(), List.of("A.a", "A.d"));
+        Assert.assertEquals(shards.get(0).getPredictedMillis(), 7000);
+        Assert.assertEquals(shards.get(1).getTestIds(), List.of("A.b", "A.c"));
+        Assert.assertEquals(shards.get(1).getPredictedMillis(), 5000);
+    }
+
+    @Test
+    public void newTestsArePredictedAtTheKnownMedian() throws IOException {
+        DurationHistory history = history(Map.of("A.a", 100L, "A.b", 300L, "A.c", 500L));
+        List<Shard> shards = ShardPlanner.plan(List.of("A.a", "A.b", "A.c", "A.new"), history, 1, false);
+
+        Assert.assertEquals(shards.get(0).getPredictedMillis(), 100 + 300 + 500 + 300);
+    }
+
+    @Test
+    public void classGranularityKeepsMethodsTogether() throws IOException {
+        DurationHistory history = history(Map.of("A.one", 4000L, "A.two", 4000L, "B.one", 1000L, "C.one", 1000L));
+        List<Shard> shards = ShardPlanner.plan(List.of("A.one", "B.one", "A.two", "C.one"), history, 2, true);
+
+        Assert.assertEquals(shards.get(0).getTestIds(), List.of("A.one", "A.two"));
+        Assert.assertEquals(shards.get(0).getPredictedMillis(), 8000);
+        Assert.assertEquals(shards.get(1).getTestIds(), List.of("B.one", "C.one"));
+    }
+
+    @Test
+    public void planDoesNotDependOnDiscoveryOrder() throws IOException {
+        DurationHistory history = history(Map.of("A.a", 700L, "B.b", 300L, "C.c", 300L));
+        List<String> testIds = new ArrayList<>(List.of("A.a", "B.b", "C.c", "D.d", "E.e"));
+        List<Shard> first = ShardPlanner.plan(testIds, history, 3, false);
+        Collections.reverse(testIds);
+        List<Shard> second = ShardPlanner.plan(testIds, history, 3, false);
+
+        List<String> assigned = new ArrayList<>();
+        for (int i = 0; i < first.size(); i++) {
+            Assert.assertEquals(second.get(i).getTestIds(), first.get(i).getTestIds());
+            assigned.addAll(first.get(i).getTestIds());
+        }
+        Collections.sort(assigned);
+        Assert.assertEquals(assigned, List.of("A.a", "B.b", "C.c", "D.d", "E.e"));
+    }
+
+    private static DurationHistory history(Map<String, Long> durations) throws IOException {
+        Path dir = Files.createTempDirectory("shard-history");
+        Path file = dir.resolve("test-durations.properties");
+        if (!durations.isEmpty()) {
+            DurationHistory.load(file).record(durations);
+        }
+        return DurationHistory.load(file);
+    }
+}